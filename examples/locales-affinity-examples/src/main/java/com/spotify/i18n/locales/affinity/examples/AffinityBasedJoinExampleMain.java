@@ -20,9 +20,9 @@
 
 package com.spotify.i18n.locales.affinity.examples;
 
-import com.spotify.i18n.locales.common.LocaleAffinityBiCalculator;
 import com.spotify.i18n.locales.common.LocaleAffinityHelpersFactory;
-import com.spotify.i18n.locales.common.model.LocaleAffinityResult;
+import com.spotify.i18n.locales.common.LocaleAffinityJoiner;
+import com.spotify.i18n.locales.common.model.LocaleAffinity;
 import java.util.List;
 
 /**
@@ -32,9 +32,12 @@ import java.util.List;
  */
 public class AffinityBasedJoinExampleMain {
 
-  /** Create a {@link LocaleAffinityBiCalculator} instance out of the factory */
-  private static final LocaleAffinityBiCalculator LOCALE_AFFINITY_BI_CALCULATOR =
-      LocaleAffinityHelpersFactory.getDefaultInstance().buildAffinityBiCalculator();
+  /**
+   * Create a {@link LocaleAffinityJoiner} instance out of the factory, which only joins language
+   * tags with at least a LOW affinity.
+   */
+  private static final LocaleAffinityJoiner LOCALE_AFFINITY_JOINER =
+      LocaleAffinityHelpersFactory.getDefaultInstance().buildAffinityJoiner(LocaleAffinity.LOW);
 
   /**
    * Example logic which attempts to join 2 sets of language tags.
@@ -100,25 +103,16 @@ public class AffinityBasedJoinExampleMain {
             "zh-CN" // Chinese (Mainland China)
             );
 
-    // Iterate through all possible combinations, and calculate the affinity for each of them.
-    for (String languageTagInOriginDataset : languageTagsInOriginDataset) {
-      for (String languageTagInTargetDataset : languageTagsInTargetDataset) {
-        LocaleAffinityResult affinityResult =
-            LOCALE_AFFINITY_BI_CALCULATOR.calculate(
-                languageTagInOriginDataset, languageTagInTargetDataset);
-        switch (affinityResult.affinity()) {
-          case NONE:
-            break;
-          default:
-            System.out.println(
-                String.format(
-                    "(%s, %s) -> Join possible with %s affinity.",
-                    languageTagInOriginDataset,
-                    languageTagInTargetDataset,
-                    affinityResult.affinity()));
-            break;
-        }
-      }
-    }
+    // Join both datasets, without having to calculate the affinity for all possible combinations.
+    LOCALE_AFFINITY_JOINER
+        .join(languageTagsInOriginDataset, languageTagsInTargetDataset)
+        .forEach(
+            joinedPair ->
+                System.out.println(
+                    String.format(
+                        "(%s, %s) -> Join possible with %s affinity.",
+                        joinedPair.originLanguageTag(),
+                        joinedPair.targetLanguageTag(),
+                        joinedPair.affinity())));
   }
 }
@@ -0,0 +1,63 @@
+/*-
+ * -\-\-
+ * locales-benchmarks
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.i18n.locales.benchmarks;
+
+import com.spotify.i18n.locales.utils.acceptlanguage.AcceptLanguageUtils;
+import java.util.List;
+import java.util.Locale.LanguageRange;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link AcceptLanguageUtils#parse(String)} against a corpus of realistic
+ * Accept-Language header values.
+ *
+ * @author Eric Fjøsne
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class AcceptLanguageUtilsBenchmark {
+
+  private Corpus acceptLanguageHeaders;
+
+  @Setup
+  public void setUp() {
+    acceptLanguageHeaders = Corpus.load(Corpus.ACCEPT_LANGUAGE_HEADERS);
+  }
+
+  @Benchmark
+  public List<LanguageRange> parse() {
+    return AcceptLanguageUtils.parse(acceptLanguageHeaders.next());
+  }
+}
@@ -0,0 +1,104 @@
+/*-
+ * -\-\-
+ * locales-benchmarks
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.i18n.locales.benchmarks;
+
+import com.google.common.base.Preconditions;
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * A corpus of input values, loaded from a classpath resource, which benchmarks cycle through.
+ *
+ * <p>Corpus resources contain one value per line. Blank lines and lines starting with <code>#
+ * </code> are ignored.
+ *
+ * <p>Instances hold a cursor and are not thread-safe: they are meant to be held by thread-scoped
+ * JMH states.
+ *
+ * @author Eric Fjøsne
+ */
+final class Corpus {
+
+  /** Resource containing realistic Accept-Language header values */
+  static final String ACCEPT_LANGUAGE_HEADERS = "/corpora/accept-language-headers.txt";
+
+  /** Resource containing realistic language tags */
+  static final String LANGUAGE_TAGS = "/corpora/language-tags.txt";
+
+  private final String[] values;
+  private int cursor;
+
+  private Corpus(final String[] values) {
+    this.values = values;
+  }
+
+  /**
+   * Loads the corpus contained in the given classpath resource.
+   *
+   * @param resource name of the classpath resource
+   * @return the loaded corpus
+   * @throws IllegalStateException if the resource does not exist or contains no value
+   */
+  static Corpus load(final String resource) {
+    final InputStream inputStream = Corpus.class.getResourceAsStream(resource);
+    Preconditions.checkState(inputStream != null, "Corpus resource not found: %s", resource);
+    try (BufferedReader reader =
+        new BufferedReader(new InputStreamReader(inputStream, StandardCharsets.UTF_8))) {
+      final List<String> values =
+          reader
+              .lines()
+              .filter(line -> !line.isBlank() && !line.startsWith("#"))
+              .collect(Collectors.toList());
+      Preconditions.checkState(!values.isEmpty(), "Corpus resource is empty: %s", resource);
+      return new Corpus(values.toArray(String[]::new));
+    } catch (IOException e) {
+      throw new UncheckedIOException(e);
+    }
+  }
+
+  /** Returns the number of values in this corpus. */
+  int size() {
+    return values.length;
+  }
+
+  /** Returns all values of this corpus. */
+  List<String> values() {
+    return List.of(values);
+  }
+
+  /** Returns the value at the given index in this corpus. */
+  String get(final int index) {
+    return values[index];
+  }
+
+  /** Returns the next value of this corpus, cycling back to the first one once exhausted. */
+  String next() {
+    final String value = values[cursor];
+    cursor = cursor + 1 == values.length ? 0 : cursor + 1;
+    return value;
+  }
+}
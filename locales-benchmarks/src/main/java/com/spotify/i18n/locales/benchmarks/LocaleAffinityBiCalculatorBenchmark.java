@@ -0,0 +1,83 @@
+/*-
+ * -\-\-
+ * locales-benchmarks
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.i18n.locales.benchmarks;
+
+import com.spotify.i18n.locales.common.LocaleAffinityBiCalculator;
+import com.spotify.i18n.locales.common.impl.CachingLocaleAffinityBiCalculatorBaseImpl;
+import com.spotify.i18n.locales.common.impl.LocaleAffinityBiCalculatorBaseImpl;
+import com.spotify.i18n.locales.common.model.LocaleAffinityResult;
+import java.util.concurrent.TimeUnit;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link LocaleAffinityBiCalculatorBaseImpl#calculate(String, String)} and its caching
+ * counterpart {@link CachingLocaleAffinityBiCalculatorBaseImpl}, against all pairs of language tags
+ * from a corpus of realistic language tags.
+ *
+ * @author Eric Fjøsne
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LocaleAffinityBiCalculatorBenchmark {
+
+  private Corpus languageTags;
+  private LocaleAffinityBiCalculator localeAffinityBiCalculator;
+  private LocaleAffinityBiCalculator cachingLocaleAffinityBiCalculator;
+  private int pairIndex;
+
+  @Setup
+  public void setUp() {
+    languageTags = Corpus.load(Corpus.LANGUAGE_TAGS);
+    localeAffinityBiCalculator = LocaleAffinityBiCalculatorBaseImpl.builder().build();
+    cachingLocaleAffinityBiCalculator = CachingLocaleAffinityBiCalculatorBaseImpl.builder().build();
+  }
+
+  @Benchmark
+  public LocaleAffinityResult calculate() {
+    return calculateNextPair(localeAffinityBiCalculator);
+  }
+
+  @Benchmark
+  public LocaleAffinityResult calculateCaching() {
+    return calculateNextPair(cachingLocaleAffinityBiCalculator);
+  }
+
+  private LocaleAffinityResult calculateNextPair(final LocaleAffinityBiCalculator calculator) {
+    final int size = languageTags.size();
+    final String languageTag1 = languageTags.get(pairIndex / size);
+    final String languageTag2 = languageTags.get(pairIndex % size);
+    pairIndex = pairIndex + 1 == size * size ? 0 : pairIndex + 1;
+    return calculator.calculate(languageTag1, languageTag2);
+  }
+}
@@ -0,0 +1,85 @@
+/*-
+ * -\-\-
+ * locales-benchmarks
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.i18n.locales.benchmarks;
+
+import com.ibm.icu.util.ULocale;
+import com.spotify.i18n.locales.common.LocaleAffinityCalculator;
+import com.spotify.i18n.locales.common.impl.LocaleAffinityCalculatorBaseImpl;
+import com.spotify.i18n.locales.common.model.LocaleAffinity;
+import com.spotify.i18n.locales.common.model.LocaleAffinityResult;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link LocaleAffinityCalculatorBaseImpl#calculate(String)} and {@link
+ * LocaleAffinityCalculatorBaseImpl#calculateAll(List)} against a corpus of realistic language tags,
+ * for a calculator built against a typical set of locales.
+ *
+ * @author Eric Fjøsne
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LocaleAffinityCalculatorBenchmark {
+
+  private static final Set<ULocale> AGAINST_LOCALES =
+      Stream.of("bs", "de-CH", "en-GB", "es-419", "fr", "ja", "nb", "pt-BR", "zh-Hant")
+          .map(ULocale::forLanguageTag)
+          .collect(Collectors.toSet());
+
+  private Corpus languageTags;
+  private List<String> allLanguageTags;
+  private LocaleAffinityCalculator localeAffinityCalculator;
+
+  @Setup
+  public void setUp() {
+    languageTags = Corpus.load(Corpus.LANGUAGE_TAGS);
+    allLanguageTags = languageTags.values();
+    localeAffinityCalculator =
+        LocaleAffinityCalculatorBaseImpl.builder().againstLocales(AGAINST_LOCALES).build();
+  }
+
+  @Benchmark
+  public LocaleAffinityResult calculate() {
+    return localeAffinityCalculator.calculate(languageTags.next());
+  }
+
+  @Benchmark
+  public LocaleAffinity[] calculateAll() {
+    return localeAffinityCalculator.calculateAll(allLanguageTags);
+  }
+}
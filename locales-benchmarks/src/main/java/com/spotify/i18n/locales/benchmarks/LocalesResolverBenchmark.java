@@ -0,0 +1,119 @@
+/*-
+ * -\-\-
+ * locales-benchmarks
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.i18n.locales.benchmarks;
+
+import com.spotify.i18n.locales.common.LocalesResolver;
+import com.spotify.i18n.locales.common.impl.LocalesResolverBaseImpl;
+import com.spotify.i18n.locales.common.model.ResolvedLocale;
+import com.spotify.i18n.locales.common.model.SupportedLocale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Benchmarks {@link LocalesResolverBaseImpl#resolve(String)} against a corpus of realistic
+ * Accept-Language header values, for a resolver supporting a typical set of locales.
+ *
+ * @author Eric Fjøsne
+ */
+@State(Scope.Thread)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class LocalesResolverBenchmark {
+
+  private static final Set<SupportedLocale> SUPPORTED_LOCALES =
+      Stream.of(
+              "ar",
+              "bn",
+              "cs",
+              "da",
+              "de",
+              "el",
+              "en",
+              "en-GB",
+              "es",
+              "es-419",
+              "fi",
+              "fr",
+              "fr-CA",
+              "he",
+              "hi",
+              "hr",
+              "hu",
+              "id",
+              "it",
+              "ja",
+              "ko",
+              "ms",
+              "nb",
+              "nl",
+              "pl",
+              "pt-BR",
+              "pt-PT",
+              "ro",
+              "ru",
+              "sk",
+              "sr",
+              "sv",
+              "sw",
+              "ta",
+              "th",
+              "tr",
+              "uk",
+              "vi",
+              "zh-Hans",
+              "zh-Hant",
+              "zh-Hant-HK")
+          .map(SupportedLocale::fromLanguageTag)
+          .collect(Collectors.toSet());
+
+  private Corpus acceptLanguageHeaders;
+  private LocalesResolver localesResolver;
+
+  @Setup
+  public void setUp() {
+    acceptLanguageHeaders = Corpus.load(Corpus.ACCEPT_LANGUAGE_HEADERS);
+    localesResolver =
+        LocalesResolverBaseImpl.builder()
+            .supportedLocales(SUPPORTED_LOCALES)
+            .defaultResolvedLocale(ResolvedLocale.fromLanguageTags("en", "en-US"))
+            .build();
+  }
+
+  @Benchmark
+  public ResolvedLocale resolve() {
+    return localesResolver.resolve(acceptLanguageHeaders.next());
+  }
+}
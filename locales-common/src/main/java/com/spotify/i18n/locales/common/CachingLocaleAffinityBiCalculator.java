@@ -0,0 +1,39 @@
+/*-
+ * -\-\-
+ * locales-common
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.i18n.locales.common;
+
+import com.spotify.i18n.locales.common.model.CacheStatistics;
+
+/**
+ * Represents an engine that calculates the locale affinity between two given language tags, which
+ * memoizes the calculated affinities and exposes statistics about its cache usage.
+ *
+ * @author Eric Fjøsne
+ */
+public interface CachingLocaleAffinityBiCalculator extends LocaleAffinityBiCalculator {
+
+  /**
+   * Returns a snapshot of the statistics collected by this calculator's cache
+   *
+   * @return the cache statistics
+   */
+  CacheStatistics stats();
+}
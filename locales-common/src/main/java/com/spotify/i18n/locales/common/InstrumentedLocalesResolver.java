@@ -0,0 +1,39 @@
+/*-
+ * -\-\-
+ * locales-common
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.i18n.locales.common;
+
+import com.spotify.i18n.locales.common.model.ResolutionStatistics;
+
+/**
+ * Represents a resolver of locales that exposes statistics about the resolution passes it needed to
+ * resolve the given inputs.
+ *
+ * @author Eric Fjøsne
+ */
+public interface InstrumentedLocalesResolver extends LocalesResolver {
+
+  /**
+   * Returns a snapshot of the statistics collected about this resolver's resolution passes
+   *
+   * @return the resolution statistics
+   */
+  ResolutionStatistics stats();
+}
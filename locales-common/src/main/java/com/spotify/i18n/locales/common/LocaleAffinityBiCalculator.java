@@ -21,6 +21,7 @@
 package com.spotify.i18n.locales.common;
 
 import com.spotify.i18n.locales.common.model.LocaleAffinityResult;
+import com.spotify.i18n.locales.utils.ids.LocaleIdsUtils;
 import edu.umd.cs.findbugs.annotations.Nullable;
 
 /**
@@ -39,4 +40,23 @@ public interface LocaleAffinityBiCalculator {
    */
   LocaleAffinityResult calculate(
       @Nullable final String languageTag1, @Nullable final String languageTag2);
+
+  /**
+   * Returns the calculated {@link LocaleAffinityResult} for the two locales identified by the given
+   * identifiers, as assigned by {@link LocaleIdsUtils}. {@link LocaleIdsUtils#NO_LOCALE_ID} is
+   * handled like an empty language tag.
+   *
+   * <p>The default implementation calls {@link #calculate(String, String)} with the language tags
+   * of the identified locales.
+   *
+   * @param localeId1 the first locale identifier
+   * @param localeId2 the second locale identifier
+   * @return the locale affinity result
+   * @throws IndexOutOfBoundsException if any of the identifiers is out of range
+   */
+  default LocaleAffinityResult calculate(final int localeId1, final int localeId2) {
+    return calculate(
+        localeId1 == LocaleIdsUtils.NO_LOCALE_ID ? null : LocaleIdsUtils.getLanguageTag(localeId1),
+        localeId2 == LocaleIdsUtils.NO_LOCALE_ID ? null : LocaleIdsUtils.getLanguageTag(localeId2));
+  }
 }
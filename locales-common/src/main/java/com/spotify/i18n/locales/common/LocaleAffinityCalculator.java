@@ -20,8 +20,12 @@
 
 package com.spotify.i18n.locales.common;
 
+import com.google.common.base.Preconditions;
+import com.spotify.i18n.locales.common.model.LocaleAffinity;
 import com.spotify.i18n.locales.common.model.LocaleAffinityResult;
+import com.spotify.i18n.locales.utils.ids.LocaleIdsUtils;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.List;
 
 /**
  * Represents an engine that calculates a locale affinity for a given language tag. All
@@ -38,4 +42,41 @@ public interface LocaleAffinityCalculator {
    * @return the locale affinity result
    */
   LocaleAffinityResult calculate(@Nullable final String languageTag);
+
+  /**
+   * Returns the calculated {@link LocaleAffinityResult} for the locale identified by the given
+   * identifier, as assigned by {@link LocaleIdsUtils}. {@link LocaleIdsUtils#NO_LOCALE_ID} is
+   * handled like an empty language tag.
+   *
+   * <p>The default implementation calls {@link #calculate(String)} with the language tag of the
+   * identified locale.
+   *
+   * @param localeId the locale identifier
+   * @return the locale affinity result
+   * @throws IndexOutOfBoundsException if the identifier is out of range
+   */
+  default LocaleAffinityResult calculate(final int localeId) {
+    return calculate(
+        localeId == LocaleIdsUtils.NO_LOCALE_ID ? null : LocaleIdsUtils.getLanguageTag(localeId));
+  }
+
+  /**
+   * Returns the calculated {@link LocaleAffinity} for each of the given language tags, in the same
+   * order as the given list.
+   *
+   * <p>The default implementation calls {@link #calculate(String)} for each language tag.
+   * Implementations can override it to share work between the language tags of a same batch.
+   *
+   * @param languageTags list of language tags, which may contain null or empty values
+   * @return array containing the locale affinity calculated for each given language tag
+   */
+  default LocaleAffinity[] calculateAll(final List<String> languageTags) {
+    Preconditions.checkNotNull(languageTags);
+    final LocaleAffinity[] affinities = new LocaleAffinity[languageTags.size()];
+    int index = 0;
+    for (String languageTag : languageTags) {
+      affinities[index++] = calculate(languageTag).affinity();
+    }
+    return affinities;
+  }
 }
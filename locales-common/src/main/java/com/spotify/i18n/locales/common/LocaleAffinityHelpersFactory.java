@@ -22,8 +22,10 @@ package com.spotify.i18n.locales.common;
 
 import com.google.common.base.Preconditions;
 import com.ibm.icu.util.ULocale;
+import com.spotify.i18n.locales.common.impl.CachingLocaleAffinityBiCalculatorBaseImpl;
 import com.spotify.i18n.locales.common.impl.LocaleAffinityBiCalculatorBaseImpl;
 import com.spotify.i18n.locales.common.impl.LocaleAffinityCalculatorBaseImpl;
+import com.spotify.i18n.locales.common.impl.LocaleAffinityJoinerBaseImpl;
 import com.spotify.i18n.locales.common.impl.ReferenceLocalesCalculatorBaseImpl;
 import com.spotify.i18n.locales.common.model.LocaleAffinity;
 import com.spotify.i18n.locales.utils.acceptlanguage.AcceptLanguageUtils;
@@ -42,6 +44,10 @@ import java.util.stream.Collectors;
  *       language tag, against a configured set of locales.
  *   <li>{@link LocaleAffinityBiCalculator}: A helper that calculates the locale affinity between
  *       two given language tags.
+ *   <li>{@link CachingLocaleAffinityBiCalculator}: A helper that calculates the locale affinity
+ *       between two given language tags, and memoizes calculated affinities.
+ *   <li>{@link LocaleAffinityJoiner}: A helper that joins two datasets of language tags, based on
+ *       the locale affinity between them.
  *   <li>{@link ReferenceLocalesCalculator}: A helper that enables reference locale-based
  *       operations.
  * </ul>
@@ -129,6 +135,37 @@ public class LocaleAffinityHelpersFactory {
     return LocaleAffinityBiCalculatorBaseImpl.builder().build();
   }
 
+  /**
+   * Returns a pre-configured, ready-to-use instance of {@link CachingLocaleAffinityBiCalculator},
+   * that can calculate the affinity between two given language tags, and memoizes calculated
+   * affinities in a bounded cache of 10,000 entries.
+   *
+   * <p>This is best suited for calculations over large volumes of language tag pairs, like
+   * affinity-based joins between datasets.
+   *
+   * @return Pre-configured caching locale affinity bi-calculator
+   * @see LocaleAffinity
+   * @see CachingLocaleAffinityBiCalculator
+   */
+  public CachingLocaleAffinityBiCalculator buildCachingAffinityBiCalculator() {
+    return CachingLocaleAffinityBiCalculatorBaseImpl.builder().build();
+  }
+
+  /**
+   * Returns a pre-configured, ready-to-use instance of {@link LocaleAffinityJoiner}, that joins two
+   * datasets of language tags, and only returns pairs with an affinity greater or equal to the
+   * given minimum affinity.
+   *
+   * @param minimumAffinity The minimum affinity, which cannot be {@link LocaleAffinity#NONE}
+   * @return Pre-configured locale affinity joiner
+   * @see LocaleAffinity
+   * @see LocaleAffinityJoiner
+   */
+  public LocaleAffinityJoiner buildAffinityJoiner(final LocaleAffinity minimumAffinity) {
+    Preconditions.checkNotNull(minimumAffinity);
+    return LocaleAffinityJoinerBaseImpl.builder().minimumAffinity(minimumAffinity).build();
+  }
+
   /**
    * Returns a pre-configured, ready-to-use instance of {@link ReferenceLocalesCalculator}.
    *
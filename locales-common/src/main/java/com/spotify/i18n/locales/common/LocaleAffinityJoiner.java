@@ -0,0 +1,61 @@
+/*-
+ * -\-\-
+ * locales-common
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.i18n.locales.common;
+
+import com.spotify.i18n.locales.common.model.LocaleAffinity;
+import com.spotify.i18n.locales.common.model.LocaleAffinityJoinedPair;
+import java.util.Collection;
+import java.util.stream.Stream;
+
+/**
+ * Represents an engine that joins two datasets of language tags, based on the locale affinity
+ * between them. All implementations of this interface must only return pairs with an affinity
+ * greater or equal to the configured minimum affinity, which can never be {@link
+ * LocaleAffinity#NONE}.
+ *
+ * <p>This is the equivalent of calculating the affinity for all possible combinations of origin and
+ * target language tags with a {@link LocaleAffinityBiCalculator}, and filtering out unrelated ones,
+ * without actually having to calculate the affinity for all of them.
+ *
+ * @author Eric Fjøsne
+ */
+public interface LocaleAffinityJoiner {
+
+  /**
+   * Returns the minimum affinity that joined language tags must have
+   *
+   * @return the minimum affinity
+   */
+  LocaleAffinity minimumAffinity();
+
+  /**
+   * Returns a stream of all pairs of distinct origin and target language tags, with an affinity
+   * greater or equal to the configured minimum affinity.
+   *
+   * <p>Invalid, empty or null language tags are ignored.
+   *
+   * @param originLanguageTags language tags from the origin dataset
+   * @param targetLanguageTags language tags from the target dataset
+   * @return the stream of joined pairs
+   */
+  Stream<LocaleAffinityJoinedPair> join(
+      final Collection<String> originLanguageTags, final Collection<String> targetLanguageTags);
+}
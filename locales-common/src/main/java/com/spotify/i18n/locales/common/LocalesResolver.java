@@ -21,6 +21,7 @@
 package com.spotify.i18n.locales.common;
 
 import com.spotify.i18n.locales.common.model.ResolvedLocale;
+import com.spotify.i18n.locales.utils.ascii.AsciiCharSequence;
 
 /**
  * Represents a resolver of locales. All implementations of this interface must return a non-null
@@ -37,4 +38,29 @@ public interface LocalesResolver {
    * @return the resolved locale
    */
   ResolvedLocale resolve(final String input);
+
+  /**
+   * Returns the {@link ResolvedLocale} for the given input, held in a {@link CharSequence}.
+   *
+   * <p>The default implementation converts the input into a String. Implementations are encouraged
+   * to override it, to avoid this copy.
+   *
+   * @return the resolved locale
+   */
+  default ResolvedLocale resolve(final CharSequence input) {
+    return resolve(input == null ? null : input.toString());
+  }
+
+  /**
+   * Returns the {@link ResolvedLocale} for the given input, held in a range of a byte array of
+   * ASCII characters.
+   *
+   * @param bytes the byte array
+   * @param offset the index of the first byte of the input
+   * @param length the number of bytes of the input
+   * @return the resolved locale
+   */
+  default ResolvedLocale resolve(final byte[] bytes, final int offset, final int length) {
+    return resolve(AsciiCharSequence.of(bytes, offset, length));
+  }
 }
@@ -0,0 +1,214 @@
+/*-
+ * -\-\-
+ * locales-common
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.i18n.locales.common.impl;
+
+import static com.spotify.i18n.locales.common.impl.LocaleAffinityBiCalculatorBaseImpl.calculateAffinity;
+import static com.spotify.i18n.locales.common.impl.LocaleAffinityBiCalculatorBaseImpl.calculateScoreBasedAffinity;
+import static com.spotify.i18n.locales.common.impl.LocaleAffinityBiCalculatorBaseImpl.canonicalizeLSR;
+
+import com.google.auto.value.AutoValue;
+import com.google.auto.value.extension.memoized.Memoized;
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.ibm.icu.impl.locale.LSR;
+import com.spotify.i18n.locales.common.CachingLocaleAffinityBiCalculator;
+import com.spotify.i18n.locales.common.LocaleAffinityBiCalculator;
+import com.spotify.i18n.locales.common.model.CacheStatistics;
+import com.spotify.i18n.locales.common.model.LocaleAffinity;
+import com.spotify.i18n.locales.common.model.LocaleAffinityResult;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Comparator;
+
+/**
+ * Base implementation of {@link CachingLocaleAffinityBiCalculator} that calculates the locale
+ * affinity between two given language tags, and memoizes the score-based affinity calculated for
+ * each distinct pair of maximized {@link LSR} in a bounded, concurrent cache.
+ *
+ * <p>Entries are keyed by an unordered pair of canonical LSRs, as the score-based affinity is
+ * symmetric: calculating the affinity between <code>fr-CA</code> and <code>fr-BE</code>, or <code>
+ * fr-BE</code> and <code>fr-CA</code>, results in the same cache entry. Language tags are parsed
+ * and maximized through the shared {@link LanguageTagRecord} cache, and affinities based on the
+ * same spoken language are resolved without hitting the cache at all.
+ *
+ * <p>This class is not intended for public subclassing. New object instances must be created using
+ * the builder pattern, starting with the {@link #builder()} method.
+ *
+ * @see LocaleAffinityBiCalculator
+ * @author Eric Fjøsne
+ */
+@AutoValue
+public abstract class CachingLocaleAffinityBiCalculatorBaseImpl
+    implements CachingLocaleAffinityBiCalculator {
+
+  /** Default maximum number of entries retained in the cache */
+  static final long DEFAULT_MAXIMUM_SIZE = 10_000L;
+
+  private static final Comparator<LSR> LSR_COMPARATOR =
+      Comparator.<LSR, String>comparing(lsr -> lsr.language)
+          .thenComparing(lsr -> lsr.script)
+          .thenComparing(lsr -> lsr.region);
+
+  /**
+   * Returns the maximum number of entries retained in the cache.
+   *
+   * @return the maximum size
+   */
+  public abstract long maximumSize();
+
+  /**
+   * Returns the cache of score-based {@link LocaleAffinity}, keyed by unordered pair of maximized
+   * LSRs.
+   *
+   * @return the cache
+   */
+  @Memoized
+  Cache<LSRPair, LocaleAffinity> cache() {
+    return CacheBuilder.newBuilder().maximumSize(maximumSize()).recordStats().build();
+  }
+
+  /**
+   * Returns the calculated {@link LocaleAffinityResult} for the given two language tags
+   *
+   * @return the locale affinity result
+   */
+  @Override
+  public LocaleAffinityResult calculate(
+      @Nullable final String languageTag1, @Nullable final String languageTag2) {
+    return LocaleAffinityResult.builder()
+        .affinity(
+            calculateAffinity(
+                LanguageTagRecord.forLanguageTag(languageTag1),
+                LanguageTagRecord.forLanguageTag(languageTag2),
+                this::getScoreBasedAffinity))
+        .build();
+  }
+
+  /**
+   * Returns the calculated {@link LocaleAffinityResult} for the two locales identified by the given
+   * identifiers
+   *
+   * @return the locale affinity result
+   */
+  @Override
+  public LocaleAffinityResult calculate(final int localeId1, final int localeId2) {
+    return LocaleAffinityResult.builder()
+        .affinity(
+            calculateAffinity(
+                LanguageTagRecord.forLocaleId(localeId1),
+                LanguageTagRecord.forLocaleId(localeId2),
+                this::getScoreBasedAffinity))
+        .build();
+  }
+
+  private LocaleAffinity getScoreBasedAffinity(final LSR lsr1, final LSR lsr2) {
+    final LSRPair key = LSRPair.of(lsr1, lsr2);
+    final LocaleAffinity cached = cache().getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+    // Racing threads may both calculate the same affinity, which is harmless as calculation is
+    // pure and much cheaper than blocking the caller.
+    final LocaleAffinity affinity = calculateScoreBasedAffinity(lsr1, lsr2);
+    cache().put(key, affinity);
+    return affinity;
+  }
+
+  /**
+   * Returns a snapshot of the statistics collected by this calculator's cache
+   *
+   * @return the cache statistics
+   */
+  @Override
+  public CacheStatistics stats() {
+    final CacheStats stats = cache().stats();
+    return CacheStatistics.builder()
+        .hitCount(stats.hitCount())
+        .missCount(stats.missCount())
+        .evictionCount(stats.evictionCount())
+        .build();
+  }
+
+  /**
+   * An unordered pair of canonical maximized {@link LSR}, used as cache key. LSRs are stored in a
+   * stable order and stripped of their flags, which play no role in distance calculations.
+   */
+  @AutoValue
+  abstract static class LSRPair {
+
+    abstract LSR first();
+
+    abstract LSR second();
+
+    static LSRPair of(final LSR lsr1, final LSR lsr2) {
+      final LSR canonical1 = canonicalizeLSR(lsr1);
+      final LSR canonical2 = canonicalizeLSR(lsr2);
+      if (LSR_COMPARATOR.compare(canonical1, canonical2) <= 0) {
+        return new AutoValue_CachingLocaleAffinityBiCalculatorBaseImpl_LSRPair(
+            canonical1, canonical2);
+      } else {
+        return new AutoValue_CachingLocaleAffinityBiCalculatorBaseImpl_LSRPair(
+            canonical2, canonical1);
+      }
+    }
+  }
+
+  /**
+   * Returns a {@link Builder} instance that will allow you to manually create a {@link
+   * CachingLocaleAffinityBiCalculatorBaseImpl} instance.
+   *
+   * @return The builder
+   */
+  public static Builder builder() {
+    return new AutoValue_CachingLocaleAffinityBiCalculatorBaseImpl.Builder();
+  }
+
+  /** A builder for a {@link CachingLocaleAffinityBiCalculatorBaseImpl}. */
+  @AutoValue.Builder
+  public abstract static class Builder {
+    Builder() { // package private constructor
+      maximumSize(DEFAULT_MAXIMUM_SIZE);
+    }
+
+    /**
+     * Configures the maximum number of entries retained in the cache. Defaults to 10,000.
+     *
+     * @param maximumSize the maximum size
+     * @return The {@link Builder} instance
+     */
+    public abstract Builder maximumSize(final long maximumSize);
+
+    abstract CachingLocaleAffinityBiCalculatorBaseImpl autoBuild(); // not public
+
+    /**
+     * Builds a {@link CachingLocaleAffinityBiCalculator} out of this builder.
+     *
+     * @throws IllegalStateException if the maximum size is negative.
+     */
+    public final CachingLocaleAffinityBiCalculator build() {
+      final CachingLocaleAffinityBiCalculatorBaseImpl calculator = autoBuild();
+      Preconditions.checkState(
+          calculator.maximumSize() >= 0, "The maximum size of the cache cannot be negative.");
+      return calculator;
+    }
+  }
+}
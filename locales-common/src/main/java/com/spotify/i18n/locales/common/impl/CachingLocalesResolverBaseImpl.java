@@ -0,0 +1,223 @@
+/*-
+ * -\-\-
+ * locales-common
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.i18n.locales.common.impl;
+
+import com.google.auto.value.AutoValue;
+import com.google.auto.value.extension.memoized.Memoized;
+import com.google.common.base.Preconditions;
+import com.google.common.base.Strings;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheStats;
+import com.spotify.i18n.locales.common.CachingLocalesResolver;
+import com.spotify.i18n.locales.common.LocalesResolver;
+import com.spotify.i18n.locales.common.model.CacheStatistics;
+import com.spotify.i18n.locales.common.model.ResolvedLocale;
+import java.time.Duration;
+
+/**
+ * Base implementation of {@link CachingLocalesResolver} that decorates a given {@link
+ * LocalesResolver}, and memoizes the {@link ResolvedLocale} returned for each distinct
+ * "Accept-Language" value in a bounded, concurrent cache.
+ *
+ * <p>Entries are keyed by the given value, stripped from its spaces and with its ASCII letters
+ * lower-cased, so that values differing only by these, which resolve identically, share a single
+ * entry. Values longer than {@link #MAXIMUM_CACHED_VALUE_LENGTH} are never cached. Entries are
+ * evicted once the cache reaches its configured maximum size, or once they have been written for
+ * longer than the configured duration.
+ *
+ * <p>This class is not intended for public subclassing. New object instances must be created using
+ * the builder pattern, starting with the {@link #builder()} method.
+ *
+ * @see LocalesResolver
+ * @author Eric Fjøsne
+ */
+@AutoValue
+public abstract class CachingLocalesResolverBaseImpl implements CachingLocalesResolver {
+
+  /** Default maximum number of entries retained in the cache */
+  static final long DEFAULT_MAXIMUM_SIZE = 10_000L;
+
+  /** Default duration after which an entry expires from the cache, once written */
+  static final Duration DEFAULT_EXPIRE_AFTER_WRITE = Duration.ofHours(1);
+
+  /** Maximum length of the "Accept-Language" values that get cached */
+  static final int MAXIMUM_CACHED_VALUE_LENGTH = 256;
+
+  /**
+   * Returns the {@link LocalesResolver} to which locale resolution is delegated on cache misses.
+   *
+   * @return the delegate resolver
+   */
+  public abstract LocalesResolver delegate();
+
+  /**
+   * Returns the maximum number of entries retained in the cache.
+   *
+   * @return the maximum size
+   */
+  public abstract long maximumSize();
+
+  /**
+   * Returns the duration after which an entry expires from the cache, once written.
+   *
+   * @return the expiration duration
+   */
+  public abstract Duration expireAfterWrite();
+
+  /**
+   * Returns the cache of {@link ResolvedLocale}s, keyed by "Accept-Language" value.
+   *
+   * @return the cache
+   */
+  @Memoized
+  Cache<String, ResolvedLocale> cache() {
+    return CacheBuilder.newBuilder()
+        .maximumSize(maximumSize())
+        .expireAfterWrite(expireAfterWrite())
+        .recordStats()
+        .build();
+  }
+
+  /**
+   * Returns the {@link ResolvedLocale}, based on a given "Accept-Language" value.
+   *
+   * <p>Null, empty or overly long values are never cached, and are directly handled by the delegate
+   * resolver.
+   *
+   * @return the resolved locale
+   */
+  @Override
+  public ResolvedLocale resolve(final String acceptLanguage) {
+    if (Strings.isNullOrEmpty(acceptLanguage)
+        || acceptLanguage.length() > MAXIMUM_CACHED_VALUE_LENGTH) {
+      return delegate().resolve(acceptLanguage);
+    }
+    final String key = getCacheKey(acceptLanguage);
+    final ResolvedLocale cached = cache().getIfPresent(key);
+    if (cached != null) {
+      return cached;
+    }
+    // Racing threads may both resolve the same value, which is harmless as resolution is pure and
+    // much cheaper than blocking the caller.
+    final ResolvedLocale resolved = delegate().resolve(acceptLanguage);
+    cache().put(key, resolved);
+    return resolved;
+  }
+
+  /**
+   * Returns the cache key of a given "Accept-Language" value: the value stripped from its spaces,
+   * with its ASCII letters lower-cased. Upper-case "Q" and "U" letters are kept as-is though, as
+   * the sanitization of weights and locale extensions is case-sensitive.
+   *
+   * @param acceptLanguage the "Accept-Language" value
+   * @return the cache key
+   */
+  static String getCacheKey(final String acceptLanguage) {
+    final char[] key = new char[acceptLanguage.length()];
+    int length = 0;
+    for (int i = 0; i < acceptLanguage.length(); i++) {
+      final char c = acceptLanguage.charAt(i);
+      if (c == ' ') {
+        continue;
+      }
+      key[length++] = c >= 'A' && c <= 'Z' && c != 'Q' && c != 'U' ? (char) (c + ('a' - 'A')) : c;
+    }
+    return new String(key, 0, length);
+  }
+
+  /**
+   * Returns a snapshot of the statistics collected by this resolver's cache
+   *
+   * @return the cache statistics
+   */
+  @Override
+  public CacheStatistics stats() {
+    final CacheStats stats = cache().stats();
+    return CacheStatistics.builder()
+        .hitCount(stats.hitCount())
+        .missCount(stats.missCount())
+        .evictionCount(stats.evictionCount())
+        .build();
+  }
+
+  /**
+   * Returns a {@link Builder} instance that will allow you to manually create a {@link
+   * CachingLocalesResolverBaseImpl} instance.
+   *
+   * @return The builder
+   */
+  public static Builder builder() {
+    return new AutoValue_CachingLocalesResolverBaseImpl.Builder();
+  }
+
+  /** A builder for a {@link CachingLocalesResolverBaseImpl}. */
+  @AutoValue.Builder
+  public abstract static class Builder {
+    Builder() { // package private constructor
+      maximumSize(DEFAULT_MAXIMUM_SIZE);
+      expireAfterWrite(DEFAULT_EXPIRE_AFTER_WRITE);
+    }
+
+    /**
+     * Configures the {@link LocalesResolver} to which locale resolution is delegated on cache
+     * misses.
+     *
+     * @param delegate the delegate resolver
+     * @return The {@link Builder} instance
+     */
+    public abstract Builder delegate(final LocalesResolver delegate);
+
+    /**
+     * Configures the maximum number of entries retained in the cache. Defaults to 10,000.
+     *
+     * @param maximumSize the maximum size
+     * @return The {@link Builder} instance
+     */
+    public abstract Builder maximumSize(final long maximumSize);
+
+    /**
+     * Configures the duration after which an entry expires from the cache, once written. Defaults
+     * to 1 hour.
+     *
+     * @param expireAfterWrite the expiration duration
+     * @return The {@link Builder} instance
+     */
+    public abstract Builder expireAfterWrite(final Duration expireAfterWrite);
+
+    abstract CachingLocalesResolverBaseImpl autoBuild(); // not public
+
+    /**
+     * Builds a {@link CachingLocalesResolver} out of this builder.
+     *
+     * @throws IllegalStateException if the maximum size or the expiration duration is negative.
+     */
+    public final CachingLocalesResolver build() {
+      final CachingLocalesResolverBaseImpl resolver = autoBuild();
+      Preconditions.checkState(
+          resolver.maximumSize() >= 0, "The maximum size of the cache cannot be negative.");
+      Preconditions.checkState(
+          !resolver.expireAfterWrite().isNegative(),
+          "The expiration duration of the cache entries cannot be negative.");
+      return resolver;
+    }
+  }
+}
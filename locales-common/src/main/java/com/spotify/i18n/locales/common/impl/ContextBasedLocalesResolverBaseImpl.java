@@ -21,11 +21,15 @@
 package com.spotify.i18n.locales.common.impl;
 
 import com.google.auto.value.AutoValue;
+import com.google.auto.value.extension.memoized.Memoized;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.spotify.i18n.locales.common.ContextBasedLocalesResolver;
 import com.spotify.i18n.locales.common.LocalesResolver;
 import com.spotify.i18n.locales.common.impl.LocalesResolverBaseImpl.Builder;
 import com.spotify.i18n.locales.common.model.ResolvedLocale;
 import com.spotify.i18n.locales.common.model.SupportedLocale;
+import java.time.Duration;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletionStage;
@@ -38,6 +42,11 @@ import java.util.function.Function;
  * <p>This resolver will return the matching {@link ResolvedLocale}, with optional fallbacks, for a
  * given {@link CONTEXT}.
  *
+ * <p>The {@link LocalesResolver}s used under the hood are interned, keyed by the supplied set of
+ * {@link SupportedLocale}s and by the default {@link ResolvedLocale}, so that their preparation is
+ * only paid once per distinct combination, even when the supported locales function yields a new
+ * but equal set on every call. Resolvers that are not used for a while are evicted.
+ *
  * <p>This class is not intended for public subclassing. New object instances must be created using
  * the builder pattern, starting with the {@link #builder()} method.
  *
@@ -49,6 +58,12 @@ import java.util.function.Function;
 public abstract class ContextBasedLocalesResolverBaseImpl<CONTEXT>
     implements ContextBasedLocalesResolver<CONTEXT> {
 
+  /** Maximum number of interned {@link LocalesResolver}s */
+  private static final long MAXIMUM_INTERNED_RESOLVERS = 1_000L;
+
+  /** Duration after which an interned {@link LocalesResolver} is evicted, once last accessed */
+  private static final Duration INTERNED_RESOLVERS_EXPIRE_AFTER_ACCESS = Duration.ofHours(1);
+
   /**
    * Returns the function that returns a completion stage that, when this stage completes normally,
    * returns the supported locales set for the given {@link CONTEXT}.
@@ -159,9 +174,46 @@ public abstract class ContextBasedLocalesResolverBaseImpl<CONTEXT>
 
   private BiFunction<Set<SupportedLocale>, ResolvedLocale, LocalesResolver> getLocaleResolver() {
     return (supportedLocales, defaultResolvedLocale) ->
-        LocalesResolverBaseImpl.builder()
-            .defaultResolvedLocale(defaultResolvedLocale)
-            .supportedLocales(supportedLocales)
-            .build();
+        internedLocalesResolvers()
+            .asMap()
+            .computeIfAbsent(
+                LocalesResolverKey.of(supportedLocales, defaultResolvedLocale),
+                key ->
+                    LocalesResolverBaseImpl.builder()
+                        .defaultResolvedLocale(defaultResolvedLocale)
+                        .supportedLocales(supportedLocales)
+                        .build());
+  }
+
+  /**
+   * Returns the cache of interned {@link LocalesResolver}s, keyed by supported locales set and
+   * default {@link ResolvedLocale}.
+   *
+   * @return the cache of interned resolvers
+   */
+  @Memoized
+  Cache<LocalesResolverKey, LocalesResolver> internedLocalesResolvers() {
+    return CacheBuilder.newBuilder()
+        .maximumSize(MAXIMUM_INTERNED_RESOLVERS)
+        .expireAfterAccess(INTERNED_RESOLVERS_EXPIRE_AFTER_ACCESS)
+        .build();
+  }
+
+  /**
+   * Key identifying an interned {@link LocalesResolver}. Supported locales sets are compared by
+   * value, so that equal sets supplied as distinct instances share the same resolver.
+   */
+  @AutoValue
+  abstract static class LocalesResolverKey {
+
+    abstract Set<SupportedLocale> supportedLocales();
+
+    abstract ResolvedLocale defaultResolvedLocale();
+
+    static LocalesResolverKey of(
+        final Set<SupportedLocale> supportedLocales, final ResolvedLocale defaultResolvedLocale) {
+      return new AutoValue_ContextBasedLocalesResolverBaseImpl_LocalesResolverKey(
+          supportedLocales, defaultResolvedLocale);
+    }
   }
 }
@@ -0,0 +1,175 @@
+/*-
+ * -\-\-
+ * locales-common
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.i18n.locales.common.impl;
+
+import com.google.auto.value.AutoValue;
+import com.google.common.base.Preconditions;
+import com.ibm.icu.impl.locale.LSR;
+import com.ibm.icu.util.ULocale;
+import com.spotify.i18n.locales.utils.ids.LocaleIdsUtils;
+import com.spotify.i18n.locales.utils.language.LanguageUtils;
+import com.spotify.i18n.locales.utils.languagetag.LanguageTagUtils;
+import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Immutable record of everything the affinity calculators need to know about a given language tag:
+ * its parsed {@link ULocale}, its spoken language locale, whether its language is available in CLDR
+ * and its maximized {@link LSR}.
+ *
+ * <p>Records are shared by all calculators through a bounded, lock-free cache, keyed on the raw
+ * language tag, so that a given language tag is parsed and maximized only once, as long as its
+ * record remains in the cache. The cache is direct-mapped: each language tag has a single slot,
+ * picked from its hash, and a record replaces any other one occupying its slot.
+ *
+ * @author Eric Fjøsne
+ */
+@AutoValue
+abstract class LanguageTagRecord {
+
+  /** Number of slots of the shared cache, which is the maximum number of retained records */
+  static final int CACHED_RECORDS_SLOTS = 1 << 14;
+
+  private static final LanguageTagRecord EMPTY_RECORD =
+      new AutoValue_LanguageTagRecord(Optional.empty(), Optional.empty(), Optional.empty());
+
+  // Cached records, along with their language tag, indexed by slot
+  private static final AtomicReferenceArray<CachedRecord> RECORDS =
+      new AtomicReferenceArray<>(CACHED_RECORDS_SLOTS);
+
+  // Lazily populated records, indexed by locale identifier
+  private static final AtomicReferenceArray<LanguageTagRecord> RECORDS_BY_LOCALE_ID =
+      new AtomicReferenceArray<>(LocaleIdsUtils.getLocaleIdCount());
+
+  /**
+   * Returns the parsed locale, as returned by {@link LanguageTagUtils#parse(String)}.
+   *
+   * @return the optional parsed locale
+   */
+  abstract Optional<ULocale> locale();
+
+  /**
+   * Returns the spoken language locale, as returned by {@link
+   * LanguageUtils#getSpokenLanguageLocale(String)}.
+   *
+   * @return the optional spoken language locale
+   */
+  abstract Optional<ULocale> spokenLanguageLocale();
+
+  /**
+   * Returns the maximized {@link LSR} of the parsed locale, only present when its language is
+   * available in CLDR.
+   *
+   * @return the optional maximized LSR
+   */
+  abstract Optional<LSR> maximizedLSR();
+
+  /**
+   * Returns true when the language tag could be parsed, and its language is available in CLDR.
+   *
+   * @return true if the language is available in CLDR
+   */
+  boolean isAvailableLanguage() {
+    return maximizedLSR().isPresent();
+  }
+
+  /**
+   * Returns the record for the given language tag, out of the shared cache.
+   *
+   * @param languageTag language tag
+   * @return the corresponding record
+   */
+  static LanguageTagRecord forLanguageTag(@Nullable final String languageTag) {
+    if (languageTag == null || languageTag.isEmpty()) {
+      return EMPTY_RECORD;
+    }
+    final int slot = getSlot(languageTag);
+    final CachedRecord cached = RECORDS.get(slot);
+    if (cached != null && cached.languageTag.equals(languageTag)) {
+      return cached.record;
+    }
+    // Racing threads may both compute the same record, which is harmless as records are immutable.
+    final LanguageTagRecord computed = compute(languageTag);
+    RECORDS.set(slot, new CachedRecord(languageTag, computed));
+    return computed;
+  }
+
+  /**
+   * Returns the record for the locale identified by the given identifier, or an empty record for
+   * {@link LocaleIdsUtils#NO_LOCALE_ID}.
+   *
+   * @param localeId locale identifier
+   * @return the corresponding record
+   * @throws IndexOutOfBoundsException if the identifier is out of range
+   */
+  static LanguageTagRecord forLocaleId(final int localeId) {
+    if (localeId == LocaleIdsUtils.NO_LOCALE_ID) {
+      return EMPTY_RECORD;
+    }
+    Preconditions.checkElementIndex(localeId, RECORDS_BY_LOCALE_ID.length());
+    final LanguageTagRecord cached = RECORDS_BY_LOCALE_ID.get(localeId);
+    if (cached != null) {
+      return cached;
+    }
+    final LanguageTagRecord computed = compute(LocaleIdsUtils.getLanguageTag(localeId));
+    RECORDS_BY_LOCALE_ID.set(localeId, computed);
+    return computed;
+  }
+
+  /**
+   * Returns the slot of the shared cache for the given language tag.
+   *
+   * @param languageTag language tag
+   * @return the slot
+   */
+  private static int getSlot(final String languageTag) {
+    final int hash = languageTag.hashCode();
+    return (hash ^ (hash >>> 16)) & (CACHED_RECORDS_SLOTS - 1);
+  }
+
+  /**
+   * Computes the record for the given language tag, without making use of the shared cache.
+   *
+   * @param languageTag language tag
+   * @return the corresponding record
+   */
+  static LanguageTagRecord compute(@Nullable final String languageTag) {
+    final Optional<ULocale> locale = LanguageTagUtils.parse(languageTag);
+    return new AutoValue_LanguageTagRecord(
+        locale,
+        LanguageUtils.getSpokenLanguageLocale(languageTag),
+        locale
+            .filter(LocaleAffinityBiCalculatorBaseImpl::isAvailableLanguage)
+            .map(LocaleAffinityBiCalculatorBaseImpl::getMaximizedLanguageScriptRegion));
+  }
+
+  /** Record held in a slot of the shared cache, along with the language tag it was computed for */
+  private static final class CachedRecord {
+    final String languageTag;
+    final LanguageTagRecord record;
+
+    CachedRecord(final String languageTag, final LanguageTagRecord record) {
+      this.languageTag = languageTag;
+      this.record = record;
+    }
+  }
+}
@@ -21,8 +21,6 @@
 package com.spotify.i18n.locales.common.impl;
 
 import static com.spotify.i18n.locales.utils.hierarchy.LocalesHierarchyUtils.isSameLocale;
-import static com.spotify.i18n.locales.utils.language.LanguageUtils.getSpokenLanguageLocale;
-import static com.spotify.i18n.locales.utils.languagetag.LanguageTagUtils.parse;
 
 import com.google.auto.value.AutoValue;
 import com.ibm.icu.impl.locale.LSR;
@@ -39,6 +37,7 @@ import com.spotify.i18n.locales.utils.available.AvailableLocalesUtils;
 import edu.umd.cs.findbugs.annotations.Nullable;
 import java.util.Optional;
 import java.util.Set;
+import java.util.function.BiFunction;
 import java.util.stream.Collectors;
 
 /**
@@ -86,6 +85,12 @@ public abstract class LocaleAffinityBiCalculatorBaseImpl implements LocaleAffini
   private static final int SCORE_THRESHOLD_HIGH = 30;
   private static final int SCORE_THRESHOLD_LOW = 0;
 
+  // Script and region used to probe the distance between two languages only. When both LSRs share
+  // the same script and region, their distance only depends on their languages, and acts as a lower
+  // bound of the distance between any two LSRs with these languages.
+  private static final String LANGUAGE_PROBE_SCRIPT = "Latn";
+  private static final String LANGUAGE_PROBE_REGION = "US";
+
   // Language codes for which we need some manual tweaks
   private static final String LANGUAGE_CODE_CROATIAN = "hr";
   private static final String LANGUAGE_CODE_BOSNIAN = "bs";
@@ -98,38 +103,71 @@ public abstract class LocaleAffinityBiCalculatorBaseImpl implements LocaleAffini
   @Override
   public LocaleAffinityResult calculate(
       @Nullable final String languageTag1, @Nullable final String languageTag2) {
-    return LocaleAffinityResult.builder().affinity(getAffinity(languageTag1, languageTag2)).build();
+    // We retrieve the records of both language tags, out of the shared cache.
+    return LocaleAffinityResult.builder()
+        .affinity(
+            calculateAffinity(
+                LanguageTagRecord.forLanguageTag(languageTag1),
+                LanguageTagRecord.forLanguageTag(languageTag2),
+                LocaleAffinityBiCalculatorBaseImpl::calculateScoreBasedAffinity))
+        .build();
   }
 
-  private LocaleAffinity getAffinity(
-      @Nullable final String languageTag1, @Nullable final String languageTag2) {
-    // We parse the language tags, and filter out locales with a language unavailable in CLDR.
-    final Optional<ULocale> locale1 =
-        parse(languageTag1).filter(locale -> isAvailableLanguage(locale));
-    final Optional<ULocale> locale2 =
-        parse(languageTag2).filter(locale -> isAvailableLanguage(locale));
+  /**
+   * Returns the calculated {@link LocaleAffinityResult} for the two locales identified by the given
+   * identifiers
+   *
+   * @return the locale affinity result
+   */
+  @Override
+  public LocaleAffinityResult calculate(final int localeId1, final int localeId2) {
+    return LocaleAffinityResult.builder()
+        .affinity(
+            calculateAffinity(
+                LanguageTagRecord.forLocaleId(localeId1),
+                LanguageTagRecord.forLocaleId(localeId2),
+                LocaleAffinityBiCalculatorBaseImpl::calculateScoreBasedAffinity))
+        .build();
+  }
 
-    if (locale1.isPresent() && locale2.isPresent()) {
+  /**
+   * Returns the {@link LocaleAffinity} between the two given records. This holds the affinity rules
+   * shared by all bi-calculators, which only differ by how the score-based affinity between two
+   * maximized LSRs is obtained.
+   *
+   * @param record1 the first language tag record
+   * @param record2 the second language tag record
+   * @param scoreBasedAffinity function returning the score-based affinity between two maximized
+   *     LSRs
+   * @return the locale affinity
+   */
+  static LocaleAffinity calculateAffinity(
+      final LanguageTagRecord record1,
+      final LanguageTagRecord record2,
+      final BiFunction<LSR, LSR, LocaleAffinity> scoreBasedAffinity) {
+    // We only consider locales with a language available in CLDR.
+    if (record1.isAvailableLanguage() && record2.isAvailableLanguage()) {
       // We attempt to match based on corresponding spoken language first, and make use of the
       // score-based affinity calculation as fallback.
-      if (hasSameSpokenLanguageAffinity(locale1.get(), locale2.get())) {
+      if (hasSameSpokenLanguageAffinity(record1, record2)) {
         return LocaleAffinity.SAME;
       } else {
-        return calculateScoreBasedAffinity(locale1.get(), locale2.get());
+        return scoreBasedAffinity.apply(record1.maximizedLSR().get(), record2.maximizedLSR().get());
       }
     } else {
       return LocaleAffinity.NONE;
     }
   }
 
-  private boolean hasSameSpokenLanguageAffinity(final ULocale locale1, final ULocale locale2) {
-    final Optional<ULocale> spoken1 = getSpokenLanguageLocale(locale1.toLanguageTag());
-    final Optional<ULocale> spoken2 = getSpokenLanguageLocale(locale2.toLanguageTag());
+  private static boolean hasSameSpokenLanguageAffinity(
+      final LanguageTagRecord record1, final LanguageTagRecord record2) {
+    final Optional<ULocale> spoken1 = record1.spokenLanguageLocale();
+    final Optional<ULocale> spoken2 = record2.spokenLanguageLocale();
     return spoken1.isPresent() && spoken2.isPresent() && isSameLocale(spoken1.get(), spoken2.get());
   }
 
-  static LocaleAffinity calculateScoreBasedAffinity(final ULocale l1, final ULocale l2) {
-    int bestDistance = getBestDistanceBetweenLocales(l1, l2);
+  static LocaleAffinity calculateScoreBasedAffinity(final LSR lsr1, final LSR lsr2) {
+    int bestDistance = getBestDistanceBetweenLSR(lsr1, lsr2);
     int correspondingScore = convertDistanceToAffinityScore(bestDistance);
     return convertScoreToLocaleAffinity(correspondingScore);
   }
@@ -138,10 +176,24 @@ public abstract class LocaleAffinityBiCalculatorBaseImpl implements LocaleAffini
     return AVAILABLE_LANGUAGE_CODES.contains(locale.getLanguage().toLowerCase());
   }
 
-  private static int getBestDistanceBetweenLocales(final ULocale locale1, final ULocale locale2) {
-    final LSR lsr1 = getMaximizedLanguageScriptRegion(locale1);
-    final LSR lsr2 = getMaximizedLanguageScriptRegion(locale2);
-    return getBestDistanceBetweenLSR(lsr1, lsr2);
+  /**
+   * Returns true when LSRs with the two given language codes can possibly have some level of
+   * affinity, regardless of their script and region. This is the case for the same languages,
+   * Croatian and Bosnian, and languages that ICU considers close enough.
+   *
+   * @param language1 language code of the first maximized LSR
+   * @param language2 language code of the second maximized LSR
+   * @return true if the languages can possibly have some level of affinity
+   */
+  static boolean isLanguageWithinAffinityDistance(final String language1, final String language2) {
+    final int languageDistance =
+        getBestDistanceBetweenLSR(getLanguageProbe(language1), getLanguageProbe(language2));
+    return convertScoreToLocaleAffinity(convertDistanceToAffinityScore(languageDistance))
+        != LocaleAffinity.NONE;
+  }
+
+  private static LSR getLanguageProbe(final String language) {
+    return new LSR(language, LANGUAGE_PROBE_SCRIPT, LANGUAGE_PROBE_REGION, LSR.EXPLICIT_LSR);
   }
 
   static int getBestDistanceBetweenLSR(final LSR lsr1, final LSR lsr2) {
@@ -201,6 +253,19 @@ public abstract class LocaleAffinityBiCalculatorBaseImpl implements LocaleAffini
         locale, LIKELY_SUBTAGS_RETURNS_INPUT_IF_UNMATCH);
   }
 
+  /**
+   * Returns the given maximized {@link LSR}, stripped of its flags. Flags play no role in distance
+   * calculations, so canonical LSRs can safely be used as keys for affinity calculation results.
+   *
+   * @param lsr maximized LSR
+   * @return the canonical LSR
+   */
+  static LSR canonicalizeLSR(final LSR lsr) {
+    return lsr.flags == LSR.DONT_CARE_FLAGS
+        ? lsr
+        : new LSR(lsr.language, lsr.script, lsr.region, LSR.DONT_CARE_FLAGS);
+  }
+
   /**
    * Returns a {@link Builder} instance that will allow you to manually create a {@link
    * LocaleAffinityBiCalculatorBaseImpl} instance.
@@ -23,11 +23,11 @@ package com.spotify.i18n.locales.common.impl;
 import static com.spotify.i18n.locales.common.impl.LocaleAffinityBiCalculatorBaseImpl.convertDistanceToAffinityScore;
 import static com.spotify.i18n.locales.common.impl.LocaleAffinityBiCalculatorBaseImpl.convertScoreToLocaleAffinity;
 import static com.spotify.i18n.locales.common.impl.LocaleAffinityBiCalculatorBaseImpl.getBestDistanceBetweenLSR;
-import static com.spotify.i18n.locales.common.impl.LocaleAffinityBiCalculatorBaseImpl.getMaximizedLanguageScriptRegion;
+import static com.spotify.i18n.locales.common.impl.LocaleAffinityBiCalculatorBaseImpl.isLanguageWithinAffinityDistance;
 import static com.spotify.i18n.locales.utils.hierarchy.LocalesHierarchyUtils.isRootLocale;
-import static com.spotify.i18n.locales.utils.hierarchy.LocalesHierarchyUtils.isSameLocale;
 
 import com.google.auto.value.AutoValue;
+import com.google.auto.value.extension.memoized.Memoized;
 import com.google.common.base.Preconditions;
 import com.ibm.icu.impl.locale.LSR;
 import com.ibm.icu.util.ULocale;
@@ -35,10 +35,15 @@ import com.spotify.i18n.locales.common.LocaleAffinityCalculator;
 import com.spotify.i18n.locales.common.model.LocaleAffinity;
 import com.spotify.i18n.locales.common.model.LocaleAffinityResult;
 import com.spotify.i18n.locales.utils.language.LanguageUtils;
-import com.spotify.i18n.locales.utils.languagetag.LanguageTagUtils;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
 
 /**
@@ -75,6 +80,25 @@ public abstract class LocaleAffinityCalculatorBaseImpl implements LocaleAffinity
    */
   abstract Set<LSR> againstMaximizedLSRs();
 
+  /**
+   * Returns the maximized {@link LSR} against which affinity is being calculated, bucketed by
+   * language code.
+   *
+   * @return map of maximized LSRs, keyed by language code
+   */
+  abstract Map<String, List<LSR>> againstMaximizedLSRsByLanguage();
+
+  /**
+   * Returns the cache of candidate maximized {@link LSR} to be scored, keyed by the language code
+   * of the maximized LSR for which affinity is being calculated.
+   *
+   * @return cache of candidate maximized LSRs
+   */
+  @Memoized
+  Map<String, List<LSR>> candidateMaximizedLSRsByLanguage() {
+    return new ConcurrentHashMap<>();
+  }
+
   /**
    * Returns the calculated {@link LocaleAffinityResult} for the given language tag
    *
@@ -85,48 +109,112 @@ public abstract class LocaleAffinityCalculatorBaseImpl implements LocaleAffinity
     return LocaleAffinityResult.builder().affinity(getAffinity(languageTag)).build();
   }
 
+  /**
+   * Returns the calculated {@link LocaleAffinityResult} for the locale identified by the given
+   * identifier.
+   *
+   * @return the locale affinity result
+   */
+  @Override
+  public LocaleAffinityResult calculate(final int localeId) {
+    return LocaleAffinityResult.builder()
+        .affinity(getAffinity(LanguageTagRecord.forLocaleId(localeId)))
+        .build();
+  }
+
+  /**
+   * Returns the calculated {@link LocaleAffinity} for each of the given language tags, in the same
+   * order as the given list.
+   *
+   * <p>Affinity is calculated only once per distinct language tag, and once per distinct parsed
+   * locale, so that language tags like <code>en-US</code> and <code>en_us</code> share the same
+   * distance calculations.
+   *
+   * @param languageTags list of language tags, which may contain null or empty values
+   * @return array containing the locale affinity calculated for each given language tag
+   */
+  @Override
+  public LocaleAffinity[] calculateAll(final List<String> languageTags) {
+    Preconditions.checkNotNull(languageTags);
+    final LocaleAffinity[] affinities = new LocaleAffinity[languageTags.size()];
+    final Map<String, LocaleAffinity> affinitiesByLanguageTag = new HashMap<>();
+    final Map<ULocale, LocaleAffinity> affinitiesByLocale = new HashMap<>();
+    int index = 0;
+    for (String languageTag : languageTags) {
+      affinities[index++] =
+          affinitiesByLanguageTag.computeIfAbsent(
+              languageTag,
+              tag -> {
+                final LanguageTagRecord record = LanguageTagRecord.forLanguageTag(tag);
+                return record
+                    .locale()
+                    .map(
+                        locale ->
+                            affinitiesByLocale.computeIfAbsent(locale, l -> getAffinity(record)))
+                    .orElse(LocaleAffinity.NONE);
+              });
+    }
+    return affinities;
+  }
+
   private LocaleAffinity getAffinity(@Nullable final String languageTag) {
+    return getAffinity(LanguageTagRecord.forLanguageTag(languageTag));
+  }
+
+  private LocaleAffinity getAffinity(final LanguageTagRecord record) {
     if (againstLocales().isEmpty()) {
       return LocaleAffinity.NONE;
     } else {
       // We attempt to match based on corresponding spoken language first, and make use of the
       // score-based affinity calculation as fallback.
-      if (hasSameSpokenLanguageAffinity(languageTag)) {
+      if (hasSameSpokenLanguageAffinity(record)) {
         return LocaleAffinity.SAME;
       } else {
-        return calculateScoreBasedAffinity(languageTag);
+        return calculateScoreBasedAffinity(record);
       }
     }
   }
 
-  private boolean hasSameSpokenLanguageAffinity(@Nullable final String languageTag) {
-    return LanguageUtils.getSpokenLanguageLocale(languageTag)
-        .map(
-            spokenLanguageLocale ->
-                againstSpokenLocales().stream()
-                    .anyMatch(
-                        againstSpokenLocale ->
-                            isSameLocale(spokenLanguageLocale, againstSpokenLocale)))
+  private boolean hasSameSpokenLanguageAffinity(final LanguageTagRecord record) {
+    return record
+        .spokenLanguageLocale()
+        .map(spokenLanguageLocale -> againstSpokenLocales().contains(spokenLanguageLocale))
         .orElse(false);
   }
 
-  private LocaleAffinity calculateScoreBasedAffinity(String languageTag) {
-    int bestDistance = getBestDistance(languageTag);
+  private LocaleAffinity calculateScoreBasedAffinity(final LanguageTagRecord record) {
+    int bestDistance = record.maximizedLSR().map(this::getBestDistance).orElse(Integer.MAX_VALUE);
     int correspondingScore = convertDistanceToAffinityScore(bestDistance);
     return convertScoreToLocaleAffinity(correspondingScore);
   }
 
-  private int getBestDistance(@Nullable final String languageTag) {
-    return LanguageTagUtils.parse(languageTag)
-        .filter(LocaleAffinityBiCalculatorBaseImpl::isAvailableLanguage)
-        .map(parsed -> getMaximizedLanguageScriptRegion(parsed))
-        .map(
-            maxParsed ->
-                againstMaximizedLSRs().stream()
-                    .map(maxAgainst -> getBestDistanceBetweenLSR(maxParsed, maxAgainst))
-                    .min(Integer::compare)
-                    .orElse(Integer.MAX_VALUE))
-        .orElse(Integer.MAX_VALUE);
+  private int getBestDistance(final LSR maxParsed) {
+    int bestDistance = Integer.MAX_VALUE;
+    for (LSR maxAgainst : getCandidateMaximizedLSRs(maxParsed.language)) {
+      bestDistance = Math.min(bestDistance, getBestDistanceBetweenLSR(maxParsed, maxAgainst));
+      // No score-based affinity can be better than a mutually intelligible one, we can stop here.
+      if (convertScoreToLocaleAffinity(convertDistanceToAffinityScore(bestDistance))
+          == LocaleAffinity.MUTUALLY_INTELLIGIBLE) {
+        break;
+      }
+    }
+    return bestDistance;
+  }
+
+  private List<LSR> getCandidateMaximizedLSRs(final String language) {
+    return candidateMaximizedLSRsByLanguage()
+        .computeIfAbsent(language, this::computeCandidateMaximizedLSRs);
+  }
+
+  // Only LSRs with a language that can possibly have some level of affinity with the given
+  // language are worth scoring. The bucket matching the given language comes first, as it is the
+  // most likely to contain the best distance.
+  private List<LSR> computeCandidateMaximizedLSRs(final String language) {
+    return againstMaximizedLSRsByLanguage().entrySet().stream()
+        .filter(e -> isLanguageWithinAffinityDistance(language, e.getKey()))
+        .sorted(Comparator.comparing(e -> !e.getKey().equals(language)))
+        .flatMap(e -> e.getValue().stream())
+        .collect(Collectors.toUnmodifiableList());
   }
 
   /**
@@ -169,6 +257,18 @@ public abstract class LocaleAffinityCalculatorBaseImpl implements LocaleAffinity
      */
     abstract Builder againstMaximizedLSRs(final Set<LSR> maximizedLSR);
 
+    /**
+     * Configures the maximized {@link LSR} against which affinity will be calculated, bucketed by
+     * language code.
+     *
+     * @param maximizedLSRsByLanguage
+     * @return The {@link Builder} instance
+     */
+    abstract Builder againstMaximizedLSRsByLanguage(
+        final Map<String, List<LSR>> maximizedLSRsByLanguage);
+
+    abstract Set<LSR> againstMaximizedLSRs();
+
     abstract Set<ULocale> againstLocales();
 
     abstract LocaleAffinityCalculatorBaseImpl autoBuild();
@@ -201,6 +301,15 @@ public abstract class LocaleAffinityCalculatorBaseImpl implements LocaleAffinity
               .map(LocaleAffinityBiCalculatorBaseImpl::getMaximizedLanguageScriptRegion)
               .collect(Collectors.toSet()));
 
+      // Bucket the maximized LSR set by language, so that only relevant buckets get scored
+      againstMaximizedLSRsByLanguage(
+          againstMaximizedLSRs().stream()
+              .collect(
+                  Collectors.groupingBy(
+                      lsr -> lsr.language,
+                      Collectors.collectingAndThen(
+                          Collectors.toList(), Collections::unmodifiableList))));
+
       return autoBuild();
     }
   }
@@ -0,0 +1,243 @@
+/*-
+ * -\-\-
+ * locales-common
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.i18n.locales.common.impl;
+
+import static com.spotify.i18n.locales.common.impl.LocaleAffinityBiCalculatorBaseImpl.calculateScoreBasedAffinity;
+import static com.spotify.i18n.locales.common.impl.LocaleAffinityBiCalculatorBaseImpl.canonicalizeLSR;
+import static com.spotify.i18n.locales.common.impl.LocaleAffinityBiCalculatorBaseImpl.isLanguageWithinAffinityDistance;
+
+import com.google.auto.value.AutoValue;
+import com.google.common.base.Preconditions;
+import com.ibm.icu.impl.locale.LSR;
+import com.ibm.icu.util.ULocale;
+import com.spotify.i18n.locales.common.LocaleAffinityBiCalculator;
+import com.spotify.i18n.locales.common.LocaleAffinityJoiner;
+import com.spotify.i18n.locales.common.model.LocaleAffinity;
+import com.spotify.i18n.locales.common.model.LocaleAffinityJoinedPair;
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Base implementation of {@link LocaleAffinityJoiner}, that joins two datasets of language tags
+ * based on the affinity between them.
+ *
+ * <p>Both datasets are first grouped by join key, made of the best matching spoken language and the
+ * canonical maximized {@link LSR} of each language tag, so that affinity is calculated only once
+ * per distinct pair of join keys. Target join keys are then bucketed by language and by spoken
+ * language, and only the buckets which can possibly reach some level of affinity with a given
+ * origin join key are scored. Joined pairs are streamed lazily, one origin join key at a time.
+ *
+ * <p>This class is not intended for public subclassing. New object instances must be created using
+ * the builder pattern, starting with the {@link #builder()} method.
+ *
+ * @see LocaleAffinityBiCalculator
+ * @author Eric Fjøsne
+ */
+@AutoValue
+public abstract class LocaleAffinityJoinerBaseImpl implements LocaleAffinityJoiner {
+
+  /**
+   * Returns the minimum affinity that joined language tags must have
+   *
+   * @return the minimum affinity
+   */
+  @Override
+  public abstract LocaleAffinity minimumAffinity();
+
+  /**
+   * Returns a stream of all pairs of distinct origin and target language tags, with an affinity
+   * greater or equal to the configured minimum affinity.
+   *
+   * <p>Invalid, empty or null language tags are ignored.
+   *
+   * @param originLanguageTags language tags from the origin dataset
+   * @param targetLanguageTags language tags from the target dataset
+   * @return the stream of joined pairs
+   */
+  @Override
+  public Stream<LocaleAffinityJoinedPair> join(
+      final Collection<String> originLanguageTags, final Collection<String> targetLanguageTags) {
+    Preconditions.checkNotNull(originLanguageTags);
+    Preconditions.checkNotNull(targetLanguageTags);
+    final Map<JoinKey, List<String>> originGroups = groupByJoinKey(originLanguageTags);
+    final Map<JoinKey, List<String>> targetGroups = groupByJoinKey(targetLanguageTags);
+    final TargetJoinKeys targetJoinKeys = new TargetJoinKeys(targetGroups.keySet());
+
+    return originGroups.entrySet().stream()
+        .flatMap(
+            origin ->
+                targetJoinKeys.getCandidates(origin.getKey()).stream()
+                    .flatMap(
+                        targetKey ->
+                            joinGroups(
+                                origin.getValue(),
+                                targetGroups.get(targetKey),
+                                origin.getKey().calculateAffinity(targetKey))));
+  }
+
+  private Stream<LocaleAffinityJoinedPair> joinGroups(
+      final List<String> originLanguageTags,
+      final List<String> targetLanguageTags,
+      final LocaleAffinity affinity) {
+    if (affinity.compareTo(minimumAffinity()) < 0) {
+      return Stream.empty();
+    }
+    return originLanguageTags.stream()
+        .flatMap(
+            originLanguageTag ->
+                targetLanguageTags.stream()
+                    .map(
+                        targetLanguageTag ->
+                            LocaleAffinityJoinedPair.builder()
+                                .originLanguageTag(originLanguageTag)
+                                .targetLanguageTag(targetLanguageTag)
+                                .affinity(affinity)
+                                .build()));
+  }
+
+  // Distinct language tags are grouped by join key, in encounter order. Language tags are parsed
+  // through the shared record cache, as datasets joined repeatedly tend to share most of them.
+  private static Map<JoinKey, List<String>> groupByJoinKey(final Collection<String> languageTags) {
+    return languageTags.stream()
+        .filter(Objects::nonNull)
+        .distinct()
+        .map(languageTag -> Map.entry(languageTag, LanguageTagRecord.forLanguageTag(languageTag)))
+        .filter(e -> e.getValue().isAvailableLanguage())
+        .collect(
+            Collectors.groupingBy(
+                e -> JoinKey.of(e.getValue()),
+                LinkedHashMap::new,
+                Collectors.mapping(Map.Entry::getKey, Collectors.toList())));
+  }
+
+  /**
+   * A join key, made of the best matching spoken language and canonical maximized {@link LSR} of a
+   * language tag. The affinity between two language tags only depends on their join keys.
+   */
+  @AutoValue
+  abstract static class JoinKey {
+
+    abstract Optional<ULocale> spokenLanguageLocale();
+
+    abstract LSR maximizedLSR();
+
+    static JoinKey of(final LanguageTagRecord record) {
+      return new AutoValue_LocaleAffinityJoinerBaseImpl_JoinKey(
+          record.spokenLanguageLocale(), canonicalizeLSR(record.maximizedLSR().get()));
+    }
+
+    LocaleAffinity calculateAffinity(final JoinKey other) {
+      if (spokenLanguageLocale().isPresent()
+          && spokenLanguageLocale().equals(other.spokenLanguageLocale())) {
+        return LocaleAffinity.SAME;
+      } else {
+        return calculateScoreBasedAffinity(maximizedLSR(), other.maximizedLSR());
+      }
+    }
+  }
+
+  /** Target join keys, bucketed by language and by spoken language, for a single join operation. */
+  private static final class TargetJoinKeys {
+    private final Map<String, List<JoinKey>> keysByLanguage;
+    private final Map<ULocale, List<JoinKey>> keysBySpokenLanguage;
+    private final Map<String, List<JoinKey>> candidatesByLanguage = new ConcurrentHashMap<>();
+
+    private TargetJoinKeys(final Set<JoinKey> keys) {
+      keysByLanguage =
+          keys.stream().collect(Collectors.groupingBy(key -> key.maximizedLSR().language));
+      keysBySpokenLanguage =
+          keys.stream()
+              .filter(key -> key.spokenLanguageLocale().isPresent())
+              .collect(Collectors.groupingBy(key -> key.spokenLanguageLocale().get()));
+    }
+
+    // Candidates are the target keys sharing the same spoken language, which have the SAME
+    // affinity, along with the ones in language buckets which can possibly have some level of
+    // score-based affinity. Candidates per language are cached, as the returned stream may be
+    // consumed in parallel.
+    private Set<JoinKey> getCandidates(final JoinKey originKey) {
+      final Set<JoinKey> candidates = new LinkedHashSet<>();
+      originKey.spokenLanguageLocale().map(keysBySpokenLanguage::get).ifPresent(candidates::addAll);
+      candidates.addAll(
+          candidatesByLanguage.computeIfAbsent(
+              originKey.maximizedLSR().language, this::computeCandidates));
+      return candidates;
+    }
+
+    private List<JoinKey> computeCandidates(final String language) {
+      return keysByLanguage.entrySet().stream()
+          .filter(e -> isLanguageWithinAffinityDistance(language, e.getKey()))
+          .flatMap(e -> e.getValue().stream())
+          .collect(Collectors.toList());
+    }
+  }
+
+  /**
+   * Returns a {@link Builder} instance that will allow you to manually create a {@link
+   * LocaleAffinityJoinerBaseImpl} instance.
+   *
+   * @return The builder
+   */
+  public static Builder builder() {
+    return new AutoValue_LocaleAffinityJoinerBaseImpl.Builder();
+  }
+
+  /** A builder for a {@link LocaleAffinityJoinerBaseImpl}. */
+  @AutoValue.Builder
+  public abstract static class Builder {
+    Builder() { // package private constructor
+      minimumAffinity(LocaleAffinity.LOW);
+    }
+
+    /**
+     * Configures the minimum affinity that joined language tags must have. Defaults to {@link
+     * LocaleAffinity#LOW}.
+     *
+     * @param minimumAffinity the minimum affinity
+     * @return The {@link Builder} instance
+     */
+    public abstract Builder minimumAffinity(final LocaleAffinity minimumAffinity);
+
+    abstract LocaleAffinityJoinerBaseImpl autoBuild(); // not public
+
+    /**
+     * Builds a {@link LocaleAffinityJoiner} out of this builder.
+     *
+     * @throws IllegalStateException if the minimum affinity is {@link LocaleAffinity#NONE}.
+     */
+    public final LocaleAffinityJoiner build() {
+      final LocaleAffinityJoinerBaseImpl joiner = autoBuild();
+      Preconditions.checkState(
+          joiner.minimumAffinity() != LocaleAffinity.NONE,
+          "The minimum affinity cannot be NONE, as it would result in a cross join.");
+      return joiner;
+    }
+  }
+}
@@ -21,21 +21,27 @@
 package com.spotify.i18n.locales.common.impl;
 
 import com.google.auto.value.AutoValue;
-import com.google.common.base.Strings;
+import com.google.auto.value.extension.memoized.Memoized;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
 import com.ibm.icu.util.LocaleMatcher;
 import com.ibm.icu.util.ULocale;
+import com.spotify.i18n.locales.common.InstrumentedLocalesResolver;
 import com.spotify.i18n.locales.common.LocalesResolver;
+import com.spotify.i18n.locales.common.model.ResolutionStatistics;
 import com.spotify.i18n.locales.common.model.ResolvedLocale;
 import com.spotify.i18n.locales.common.model.SupportedLocale;
 import com.spotify.i18n.locales.utils.acceptlanguage.AcceptLanguageUtils;
 import com.spotify.i18n.locales.utils.available.AvailableLocalesUtils;
 import com.spotify.i18n.locales.utils.hierarchy.LocalesHierarchyUtils;
+import com.spotify.i18n.locales.utils.ids.LocaleSet;
 import com.spotify.i18n.locales.utils.languagetag.LanguageTagUtils;
 import java.util.List;
 import java.util.Locale.LanguageRange;
 import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.atomic.LongAdder;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -53,7 +59,7 @@ import java.util.stream.Stream;
  * @author Eric Fjøsne
  */
 @AutoValue
-public abstract class LocalesResolverBaseImpl implements LocalesResolver {
+public abstract class LocalesResolverBaseImpl implements InstrumentedLocalesResolver {
 
   /** Prepared {@link LocaleMatcher} ready to find the best matching CDLR available locale */
   private static final LocaleMatcher AVAILABLE_UNICODE_LOCALES_MATCHER =
@@ -62,6 +68,23 @@ public abstract class LocalesResolverBaseImpl implements LocalesResolver {
           .setNoDefaultLocale()
           .build();
 
+  /** Maximum number of extended wildcard ranges retained in the cache of each resolver */
+  static final long MAXIMUM_CACHED_WILDCARD_RANGE_EXPANSIONS = 1_000L;
+
+  /** Maximum number of second resolution pass results retained in the cache of each resolver */
+  static final long MAXIMUM_CACHED_SECOND_PASS_MATCHES = 1_000L;
+
+  /** Maximum number of mitigated ranges with an unknown language code retained in the cache */
+  static final long MAXIMUM_CACHED_MITIGATED_RANGES = 10_000L;
+
+  /**
+   * Bounded cache of best matching available Unicode locales, keyed by range with a language code
+   * not available in CLDR. Ranges without any match are cached as well, as an empty value, so that
+   * repeated junk values do not go through the matcher again.
+   */
+  private static final Cache<String, Optional<String>> MITIGATED_UNKNOWN_LANGUAGE_RANGES =
+      CacheBuilder.newBuilder().maximumSize(MAXIMUM_CACHED_MITIGATED_RANGES).build();
+
   /** Set containing all distinct language codes for locales available in CLDR */
   private static final Set<String> AVAILABLE_UNICODE_LANGUAGE_CODES =
       AvailableLocalesUtils.getCldrLocales().stream()
@@ -89,6 +112,111 @@ public abstract class LocalesResolverBaseImpl implements LocalesResolver {
    */
   public abstract ResolvedLocale defaultResolvedLocale();
 
+  /**
+   * Returns the map of supported locales, keyed by locale for translations, with corresponding
+   * related locales for formatting as values.
+   *
+   * @return map of supported locales for translations and their related locales for formatting
+   */
+  @Memoized
+  Map<ULocale, Set<ULocale>> supportedLocalesMap() {
+    return supportedLocales().stream()
+        .collect(
+            Collectors.toMap(
+                sl -> sl.localeForTranslations(), sl -> sl.relatedLocalesForFormatting()));
+  }
+
+  /**
+   * Returns the supported locales for translations, as a {@link LocaleSet}.
+   *
+   * @return the supported locales for translations
+   */
+  @Memoized
+  LocaleSet supportedLocalesForTranslations() {
+    return LocaleSet.copyOf(supportedLocalesMap().keySet());
+  }
+
+  /**
+   * Returns the prepared {@link LocaleMatcher}, ready to find the best matching supported locale
+   * for translations.
+   *
+   * @return the locale matcher for translations
+   */
+  @Memoized
+  LocaleMatcher localeMatcherForTranslations() {
+    return getLocaleMatcher(supportedLocalesMap().keySet());
+  }
+
+  /**
+   * Returns the prepared {@link LocaleMatcher}s, keyed by supported locale for translations, ready
+   * to find the best matching related locale for formatting.
+   *
+   * @return the locale matchers for formatting, keyed by locale for translations
+   */
+  @Memoized
+  Map<ULocale, LocaleMatcher> localeMatchersForFormatting() {
+    return supportedLocalesMap().entrySet().stream()
+        .collect(
+            Collectors.toUnmodifiableMap(Map.Entry::getKey, e -> getLocaleMatcher(e.getValue())));
+  }
+
+  /**
+   * Returns the precomputed lists of recommended fallback locales for translations, keyed by
+   * supported locale for translations.
+   *
+   * @return the fallback locales for translations, keyed by locale for translations
+   */
+  @Memoized
+  Map<ULocale, List<ULocale>> localeForTranslationsFallbacks() {
+    return supportedLocalesMap().keySet().stream()
+        .collect(
+            Collectors.toUnmodifiableMap(
+                locale -> locale,
+                locale ->
+                    getRecommendedLocaleForTranslationsFallbacks(
+                        locale, supportedLocalesForTranslations())));
+  }
+
+  /**
+   * Returns the bounded cache of results of the second resolution pass for a single range, keyed by
+   * range made of the language of the default resolved locale, possibly followed by other subtags
+   * (for instance: en, en-ch, en-hant-hk). It is populated on first use of each range.
+   *
+   * @return the cache of second pass results, keyed by range
+   */
+  @Memoized
+  Cache<String, Optional<ResolvedLocale>> defaultLocaleSecondPassMatches() {
+    return CacheBuilder.newBuilder().maximumSize(MAXIMUM_CACHED_SECOND_PASS_MATCHES).build();
+  }
+
+  /**
+   * Returns the counters of the resolution passes performed by this resolver.
+   *
+   * @return the resolution pass counters
+   */
+  @Memoized
+  ResolutionPassCounters resolutionPassCounters() {
+    return new ResolutionPassCounters();
+  }
+
+  /**
+   * Returns a snapshot of the statistics collected about the resolution passes performed by this
+   * resolver
+   *
+   * @return the resolution statistics
+   */
+  @Override
+  public ResolutionStatistics stats() {
+    final ResolutionPassCounters counters = resolutionPassCounters();
+    return ResolutionStatistics.builder()
+        .firstPassCount(counters.firstPass.sum())
+        .secondPassSkippedCount(counters.secondPassSkipped.sum())
+        .secondPassLookupCount(counters.secondPassLookup.sum())
+        .secondPassCount(counters.secondPass.sum())
+        .defaultResolvedLocaleCount(counters.defaultResolvedLocale.sum())
+        .build();
+  }
+
   /**
    * Returns the {@link ResolvedLocale}, based on a given "Accept-Language" value.
    *
@@ -96,73 +224,66 @@ public abstract class LocalesResolverBaseImpl implements LocalesResolver {
    */
   @Override
   public ResolvedLocale resolve(final String acceptLanguage) {
+    return resolve((CharSequence) acceptLanguage);
+  }
+
+  /**
+   * Returns the {@link ResolvedLocale}, based on a given "Accept-Language" value held in a {@link
+   * CharSequence}, which is parsed without being copied into a String first.
+   *
+   * @return the resolved locale
+   */
+  @Override
+  public ResolvedLocale resolve(final CharSequence acceptLanguage) {
     // Fail fast when resolution is impossible
-    if (Strings.isNullOrEmpty(acceptLanguage)) {
+    if (acceptLanguage == null || acceptLanguage.length() == 0) {
+      resolutionPassCounters().defaultResolvedLocale.increment();
       return defaultResolvedLocale();
     }
 
-    // Get a map of supported locales, keyed by locale for translations, with corresponding related
-    // locales for formatting as values
-    Map<ULocale, Set<ULocale>> supportedLocalesMap =
-        supportedLocales().stream()
-            .collect(
-                Collectors.toMap(
-                    sl -> sl.localeForTranslations(), sl -> sl.relatedLocalesForFormatting()));
-
-    // Generate matcher for all supported translations locales
-    LocaleMatcher localeMatcherForTranslations = getLocaleMatcher(supportedLocalesMap.keySet());
-
     // We parse the accept-language value into a list of language ranges
     List<LanguageRange> languageRanges = AcceptLanguageUtils.parse(acceptLanguage);
 
     // We first try to get the best match directly
-    Optional<ResolvedLocale> bestMatch =
-        getBestMatch(languageRanges, localeMatcherForTranslations, supportedLocalesMap);
+    resolutionPassCounters().firstPass.increment();
+    Optional<ResolvedLocale> bestMatch = getBestMatch(languageRanges);
 
     // If there was no match, we override the accept-language entries with values from the default
     // locale, to find the closest match possible. This is required when the set of supported
     // locales contains several variants of the same language (for instance: en and en-GB, fr and
     // fr-CA, es and es-419, ...)
     if (bestMatch.isEmpty()) {
-      bestMatch =
-          getBestMatchBasedOnDefaultLocale(
-              defaultResolvedLocale(),
-              languageRanges,
-              localeMatcherForTranslations,
-              supportedLocalesMap);
+      bestMatch = getBestMatchBasedOnDefaultLocale(defaultResolvedLocale(), languageRanges);
     }
 
     // We return our best match, or the default locale if there was no such match.
-    return bestMatch.orElse(defaultResolvedLocale());
+    if (bestMatch.isEmpty()) {
+      resolutionPassCounters().defaultResolvedLocale.increment();
+      return defaultResolvedLocale();
+    }
+    return bestMatch.get();
   }
 
   /**
    * Returns the best matching {@link ResolvedLocale}, based on a given normalized "Accept-Language"
    *
    * @param languageRanges Accept language entries
-   * @param localeMatcherForTranslations the pre-configured locale matcher for translations
-   * @param supportedLocalesMap A map of supported locales for translations, and their corresponding
-   *     supported locales for formatting
    * @return The optional best matching {@link ResolvedLocale}
    */
-  private Optional<ResolvedLocale> getBestMatch(
-      final List<LanguageRange> languageRanges,
-      final LocaleMatcher localeMatcherForTranslations,
-      final Map<ULocale, Set<ULocale>> supportedLocalesMap) {
+  private Optional<ResolvedLocale> getBestMatch(final List<LanguageRange> languageRanges) {
     List<LanguageRange> overriddenAcceptLanguageEntries =
         getAcceptLanguageEntriesWithBestMatchingAvailableLocaleOverride(languageRanges);
     final String normalizedAcceptLanguage = languageRangesToValue(overriddenAcceptLanguageEntries);
-    return Optional.ofNullable(localeMatcherForTranslations.getBestMatch(normalizedAcceptLanguage))
+    return Optional.ofNullable(
+            localeMatcherForTranslations().getBestMatch(normalizedAcceptLanguage))
         .map(
             localeForTranslations ->
                 ResolvedLocale.builder()
                     .localeForTranslations(localeForTranslations)
                     .localeForTranslationsFallbacks(
-                        getRecommendedLocaleForTranslationsFallbacks(
-                            localeForTranslations, supportedLocalesMap.keySet()))
+                        localeForTranslationsFallbacks().get(localeForTranslations))
                     .localeForFormatting(
-                        getLocaleForFormatting(
-                            supportedLocalesMap, normalizedAcceptLanguage, localeForTranslations))
+                        getLocaleForFormatting(normalizedAcceptLanguage, localeForTranslations))
                     .build());
   }
 
@@ -173,12 +294,12 @@ public abstract class LocalesResolverBaseImpl implements LocalesResolver {
    * @param supportedLocales the set of supported locales
    * @return list of fallback locales for translations
    */
-  private List<ULocale> getRecommendedLocaleForTranslationsFallbacks(
-      final ULocale resolvedLocaleForTranslations, final Set<ULocale> supportedLocales) {
+  private static List<ULocale> getRecommendedLocaleForTranslationsFallbacks(
+      final ULocale resolvedLocaleForTranslations, final LocaleSet supportedLocales) {
     return LocalesHierarchyUtils.getAncestorLocales(resolvedLocaleForTranslations).stream()
         // We want to ensure that we only consider supported locales as fallbacks
         .filter(supportedLocales::contains)
-        .collect(Collectors.toList());
+        .collect(Collectors.toUnmodifiableList());
   }
 
   /**
@@ -216,8 +337,7 @@ public abstract class LocalesResolverBaseImpl implements LocalesResolver {
     }
 
     // Strip the range of any trailing -*
-    String cleanedRange =
-        languageRange.getRange().replaceAll("(-\\" + LANGUAGE_RANGE_WILDCARD + ")*$", "");
+    String cleanedRange = stripTrailingWildcards(languageRange.getRange());
 
     // The range only contained wildcards, so we simply ignore it.
     if (LANGUAGE_RANGE_WILDCARD.equals(cleanedRange)) {
@@ -230,6 +350,50 @@ public abstract class LocalesResolverBaseImpl implements LocalesResolver {
       return Stream.of(new LanguageRange(cleanedRange, languageRange.getWeight()));
     }
 
+    // Wildcard ranges are extended once, on first use, then looked up from the cache
+    List<String> extendedRanges = wildcardRangeExpansions().getIfPresent(cleanedRange);
+    if (extendedRanges == null) {
+      extendedRanges = getExtendedRanges(cleanedRange);
+      wildcardRangeExpansions().put(cleanedRange, extendedRanges);
+    }
+    return extendedRanges.stream()
+        .map(extendedRange -> new LanguageRange(extendedRange, languageRange.getWeight()));
+  }
+
+  /**
+   * Returns the bounded cache of extended ranges, keyed by lowercase wildcard range stripped of any
+   * trailing wildcard (for instance: *-ch, *-hant, *-hans-hk). It is populated on first use of each
+   * wildcard range.
+   *
+   * @return the cache of extended ranges, keyed by wildcard range
+   */
+  @Memoized
+  Cache<String, List<String>> wildcardRangeExpansions() {
+    return CacheBuilder.newBuilder().maximumSize(MAXIMUM_CACHED_WILDCARD_RANGE_EXPANSIONS).build();
+  }
+
+  /**
+   * Returns the given range, stripped of any trailing wildcard.
+   *
+   * @param range the range
+   * @return the range without trailing wildcards
+   */
+  private static String stripTrailingWildcards(final String range) {
+    int end = range.length();
+    while (end >= 2 && range.charAt(end - 1) == '*' && range.charAt(end - 2) == '-') {
+      end -= 2;
+    }
+    return range.substring(0, end);
+  }
+
+  /**
+   * Returns the lowercase language tags of all locales available in CLDR that are covered by the
+   * given range, containing wildcards.
+   *
+   * @param cleanedRange the range, stripped of any trailing wildcard
+   * @return the extended ranges
+   */
+  private List<String> getExtendedRanges(final String cleanedRange) {
     // In order to enable parsing, we replace * by Und
     String preparedRangeForParsing =
         cleanedRange.replace(LANGUAGE_RANGE_WILDCARD, ULOCALE_UNDEFINED_CODE);
@@ -255,12 +419,9 @@ public abstract class LocalesResolverBaseImpl implements LocalesResolver {
                     .filter(AvailableLocalesUtils.getCldrLocales()::contains)
                     // We remove potential duplicates
                     .distinct()
-                    .map(
-                        localeWithinRange ->
-                            new LanguageRange(
-                                localeWithinRange.toLanguageTag().toLowerCase(),
-                                languageRange.getWeight())))
-        .orElse(Stream.empty());
+                    .map(localeWithinRange -> localeWithinRange.toLanguageTag().toLowerCase())
+                    .collect(Collectors.toUnmodifiableList()))
+        .orElse(List.of());
   }
 
   /**
@@ -318,17 +479,32 @@ public abstract class LocalesResolverBaseImpl implements LocalesResolver {
             .orElse(languageRange.getRange());
 
     if (!"*".equals(languageCode) && !AVAILABLE_UNICODE_LANGUAGE_CODES.contains(languageCode)) {
-      return Optional.ofNullable(
-              AVAILABLE_UNICODE_LOCALES_MATCHER.getBestMatch(languageRange.getRange()))
-          .map(
-              bestMatchingLocale ->
-                  new LanguageRange(
-                      bestMatchingLocale.toLanguageTag().toLowerCase(), languageRange.getWeight()));
+      return getMitigatedUnknownLanguageRange(languageRange.getRange())
+          .map(mitigatedRange -> new LanguageRange(mitigatedRange, languageRange.getWeight()));
     } else {
       return Optional.of(languageRange);
     }
   }
 
+  /**
+   * Returns the range of the best matching available Unicode locale for the given range, whose
+   * language code is not available in CLDR, out of the shared cache.
+   *
+   * @param range the range with an unknown language code
+   * @return the optional mitigated range, empty when no available Unicode locale matches
+   */
+  static Optional<String> getMitigatedUnknownLanguageRange(final String range) {
+    final Optional<String> cached = MITIGATED_UNKNOWN_LANGUAGE_RANGES.getIfPresent(range);
+    if (cached != null) {
+      return cached;
+    }
+    final Optional<String> computed =
+        Optional.ofNullable(AVAILABLE_UNICODE_LOCALES_MATCHER.getBestMatch(range))
+            .map(bestMatchingLocale -> bestMatchingLocale.toLanguageTag().toLowerCase());
+    MITIGATED_UNKNOWN_LANGUAGE_RANGES.put(range, computed);
+    return computed;
+  }
+
   /**
    * Returns the accept-language formatted value, from a list of {@link LanguageRange}
    *
@@ -345,20 +521,39 @@ public abstract class LocalesResolverBaseImpl implements LocalesResolver {
    *
    * @param defaultResolvedLocale The default {@link ResolvedLocale}
    * @param languageRanges List of {@link LanguageRange}
-   * @param localeMatcherForTranslations the pre-configured locale matcher for translations
-   * @param supportedLocalesMap A map of supported locales for translations, and their corresponding
-   *     supported locales for formatting
    * @return The optional best matching {@link ResolvedLocale}
    */
   private Optional<ResolvedLocale> getBestMatchBasedOnDefaultLocale(
-      final ResolvedLocale defaultResolvedLocale,
-      final List<LanguageRange> languageRanges,
-      final LocaleMatcher localeMatcherForTranslations,
-      final Map<ULocale, Set<ULocale>> supportedLocalesMap) {
-    return getBestMatch(
-        getAcceptLanguageEntriesWithOverrides(defaultResolvedLocale, languageRanges),
-        localeMatcherForTranslations,
-        supportedLocalesMap);
+      final ResolvedLocale defaultResolvedLocale, final List<LanguageRange> languageRanges) {
+    final List<LanguageRange> overriddenLanguageRanges =
+        getAcceptLanguageEntriesWithOverrides(defaultResolvedLocale, languageRanges);
+
+    // When overriding did not change anything, matching again cannot produce a different result.
+    if (overriddenLanguageRanges.equals(languageRanges)) {
+      resolutionPassCounters().secondPassSkipped.increment();
+      return Optional.empty();
+    }
+
+    // When all overridden ranges share the same range, with a non-zero weight, the result is the
+    // same as for this single range, which is computed once and then looked up from the cache.
+    final String firstRange = overriddenLanguageRanges.get(0).getRange();
+    if (overriddenLanguageRanges.stream()
+        .allMatch(lr -> lr.getWeight() > 0.0 && lr.getRange().equals(firstRange))) {
+      final Optional<ResolvedLocale> cached =
+          defaultLocaleSecondPassMatches().getIfPresent(firstRange);
+      if (cached != null) {
+        resolutionPassCounters().secondPassLookup.increment();
+        return cached;
+      }
+      resolutionPassCounters().secondPass.increment();
+      final Optional<ResolvedLocale> computed =
+          getBestMatch(List.of(new LanguageRange(firstRange)));
+      defaultLocaleSecondPassMatches().put(firstRange, computed);
+      return computed;
+    }
+
+    resolutionPassCounters().secondPass.increment();
+    return getBestMatch(overriddenLanguageRanges);
   }
 
   /**
@@ -414,20 +609,15 @@ public abstract class LocalesResolverBaseImpl implements LocalesResolver {
   /**
    * Returns the {@link ULocale} that best matches the given localeToMatch, for formatting purposes
    *
-   * @param supportedLocalesMap map of supported translations locales as keys, related formatting
-   *     locales as values
    * @param localeToMatch the language tag for which we need to find a formatting match
    * @param localeForTranslations the locale that best matches for translations
    * @return the {@link ULocale} that best matches the given localeToMatch, for formatting purposes
    * @see ULocale
    */
   private ULocale getLocaleForFormatting(
-      final Map<ULocale, Set<ULocale>> supportedLocalesMap,
-      final String localeToMatch,
-      final ULocale localeForTranslations) {
+      final String localeToMatch, final ULocale localeForTranslations) {
     return Optional.ofNullable(
-            getLocaleMatcher(supportedLocalesMap.get(localeForTranslations))
-                .getBestMatch(localeToMatch))
+            localeMatchersForFormatting().get(localeForTranslations).getBestMatch(localeToMatch))
         .orElse(localeForTranslations);
   }
 
@@ -439,13 +629,22 @@ public abstract class LocalesResolverBaseImpl implements LocalesResolver {
    * @see LocaleMatcher
    * @see ULocale
    */
-  private LocaleMatcher getLocaleMatcher(final Set<ULocale> supportedLocales) {
+  private static LocaleMatcher getLocaleMatcher(final Set<ULocale> supportedLocales) {
     return LocaleMatcher.builder()
         .setSupportedULocales(supportedLocales)
         .setNoDefaultLocale()
         .build();
   }
 
+  /** Counters of the resolution passes performed by a resolver, safe for concurrent updates. */
+  static final class ResolutionPassCounters {
+    final LongAdder firstPass = new LongAdder();
+    final LongAdder secondPassSkipped = new LongAdder();
+    final LongAdder secondPassLookup = new LongAdder();
+    final LongAdder secondPass = new LongAdder();
+    final LongAdder defaultResolvedLocale = new LongAdder();
+  }
+
   /**
    * Returns a {@link Builder} instance that will allow you to manually create a {@link
    * LocalesResolverBaseImpl} instance.
@@ -481,9 +680,18 @@ public abstract class LocalesResolverBaseImpl implements LocalesResolver {
 
     abstract LocalesResolverBaseImpl autoBuild();
 
-    /** Builds a {@link LocalesResolver} out of this builder. */
-    public final LocalesResolver build() {
-      return autoBuild();
+    /**
+     * Builds an {@link InstrumentedLocalesResolver} out of this builder.
+     *
+     * <p>All locale matchers and fallback chains needed for resolution are prepared once, at build
+     * time, so that the built resolver only has to parse and match a given value.
+     */
+    public final InstrumentedLocalesResolver build() {
+      LocalesResolverBaseImpl resolver = autoBuild();
+      resolver.localeMatcherForTranslations();
+      resolver.localeMatchersForFormatting();
+      resolver.localeForTranslationsFallbacks();
+      return resolver;
     }
   }
 }
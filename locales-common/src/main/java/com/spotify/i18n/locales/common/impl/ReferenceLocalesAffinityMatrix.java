@@ -0,0 +1,265 @@
+/*-
+ * -\-\-
+ * locales-common
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.i18n.locales.common.impl;
+
+import com.google.common.base.Preconditions;
+import com.ibm.icu.util.ULocale;
+import com.ibm.icu.util.VersionInfo;
+import com.spotify.i18n.locales.common.model.LocaleAffinity;
+import com.spotify.i18n.locales.common.model.RelatedReferenceLocale;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * Precomputed matrix of the {@link LocaleAffinity} between all reference locales, packed at 3 bits
+ * per cell.
+ *
+ * <p>Cell <code>(i, j)</code> holds the affinity of the reference locale at index <code>j</code>,
+ * as calculated against the reference locale at index <code>i</code>. Reference locales are indexed
+ * in the order given at generation time.
+ *
+ * <p>The matrix is generated at build time into the {@link #RESOURCE_NAME} classpath resource. Its
+ * header records the ICU version and the reference locales it was generated for, so that a stale
+ * resource is detected and ignored when read.
+ *
+ * @author Eric Fjøsne
+ */
+final class ReferenceLocalesAffinityMatrix {
+
+  /** Name of the classpath resource, relative to this class, containing the serialized matrix */
+  static final String RESOURCE_NAME = "reference-locales-affinity-matrix.bin";
+
+  // Serialization header
+  private static final int MAGIC_NUMBER = 0x4C414D58; // "LAMX"
+  private static final int FORMAT_VERSION = 1;
+
+  // 3 bits are enough to hold the 5 possible affinity values. We pack 21 cells per long, so that no
+  // cell is split across two longs.
+  private static final int BITS_PER_CELL = 3;
+  private static final int CELLS_PER_LONG = Long.SIZE / BITS_PER_CELL;
+  private static final long CELL_MASK = (1L << BITS_PER_CELL) - 1;
+  private static final LocaleAffinity[] AFFINITIES = LocaleAffinity.values();
+
+  private final List<ULocale> referenceLocales;
+  private final Map<ULocale, Integer> referenceLocaleIndexes;
+  private final long[] cells;
+
+  private ReferenceLocalesAffinityMatrix(final List<ULocale> referenceLocales, final long[] cells) {
+    this.referenceLocales = List.copyOf(referenceLocales);
+    this.referenceLocaleIndexes = new HashMap<>();
+    for (int i = 0; i < referenceLocales.size(); i++) {
+      referenceLocaleIndexes.put(referenceLocales.get(i), i);
+    }
+    this.cells = cells;
+  }
+
+  /**
+   * Returns the index of the given reference locale in this matrix.
+   *
+   * @param referenceLocale reference locale
+   * @return the index of the reference locale, or -1 if it isn't part of this matrix
+   */
+  int indexOf(final ULocale referenceLocale) {
+    return referenceLocaleIndexes.getOrDefault(referenceLocale, -1);
+  }
+
+  /**
+   * Returns the affinity of the reference locale at the given candidate index, as calculated
+   * against the reference locale at the given index.
+   *
+   * @param againstIndex index of the reference locale against which affinity is calculated
+   * @param candidateIndex index of the reference locale for which affinity is calculated
+   * @return the precomputed affinity
+   */
+  LocaleAffinity get(final int againstIndex, final int candidateIndex) {
+    final int cell = againstIndex * referenceLocales.size() + candidateIndex;
+    final long word = cells[cell / CELLS_PER_LONG];
+    return AFFINITIES[(int) ((word >>> ((cell % CELLS_PER_LONG) * BITS_PER_CELL)) & CELL_MASK)];
+  }
+
+  /**
+   * Generates the matrix for the given reference locales.
+   *
+   * @param referenceLocales ordered reference locales
+   * @param relatedReferenceLocalesCalculator function returning the related reference locales, with
+   *     an affinity other than {@link LocaleAffinity#NONE}, for a given reference locale
+   * @return the generated matrix
+   */
+  static ReferenceLocalesAffinityMatrix generate(
+      final List<ULocale> referenceLocales,
+      final Function<ULocale, List<RelatedReferenceLocale>> relatedReferenceLocalesCalculator) {
+    final int size = referenceLocales.size();
+    final long[] cells = new long[getLongCount(size)];
+    final ReferenceLocalesAffinityMatrix matrix =
+        new ReferenceLocalesAffinityMatrix(referenceLocales, cells);
+    for (int i = 0; i < size; i++) {
+      for (RelatedReferenceLocale related :
+          relatedReferenceLocalesCalculator.apply(referenceLocales.get(i))) {
+        final int j = matrix.indexOf(related.referenceLocale());
+        Preconditions.checkState(
+            j >= 0, "Unknown related reference locale: %s", related.referenceLocale());
+        final int cell = i * size + j;
+        cells[cell / CELLS_PER_LONG] |=
+            ((long) related.affinity().ordinal()) << ((cell % CELLS_PER_LONG) * BITS_PER_CELL);
+      }
+    }
+    return matrix;
+  }
+
+  /**
+   * Writes this matrix to the given channel.
+   *
+   * @param channel the channel to write to
+   * @throws IOException if the matrix could not be written
+   */
+  void writeTo(final WritableByteChannel channel) throws IOException {
+    final List<byte[]> encodedLanguageTags = new ArrayList<>();
+    int headerSize = Integer.BYTES * 4;
+    final byte[] icuVersion = getIcuVersion();
+    headerSize += icuVersion.length;
+    for (ULocale referenceLocale : referenceLocales) {
+      final byte[] encoded = referenceLocale.toLanguageTag().getBytes(StandardCharsets.US_ASCII);
+      encodedLanguageTags.add(encoded);
+      headerSize += Integer.BYTES + encoded.length;
+    }
+
+    final ByteBuffer buffer = ByteBuffer.allocate(headerSize + Long.BYTES * cells.length);
+    buffer.putInt(MAGIC_NUMBER).putInt(FORMAT_VERSION);
+    buffer.putInt(icuVersion.length).put(icuVersion);
+    buffer.putInt(referenceLocales.size());
+    for (byte[] encoded : encodedLanguageTags) {
+      buffer.putInt(encoded.length).put(encoded);
+    }
+    buffer.asLongBuffer().put(cells);
+    buffer.position(buffer.limit()).flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  /**
+   * Reads a matrix from the given serialized bytes, and returns it only if it was generated with
+   * the current ICU version, for the given reference locales.
+   *
+   * @param buffer the serialized matrix
+   * @param expectedReferenceLocales ordered reference locales the matrix must have been generated
+   *     for
+   * @return the optional matrix, empty when stale or invalid
+   */
+  static Optional<ReferenceLocalesAffinityMatrix> read(
+      final ByteBuffer buffer, final List<ULocale> expectedReferenceLocales) {
+    try {
+      if (buffer.getInt() != MAGIC_NUMBER || buffer.getInt() != FORMAT_VERSION) {
+        return Optional.empty();
+      }
+      final byte[] icuVersion = new byte[buffer.getInt()];
+      buffer.get(icuVersion);
+      if (!Arrays.equals(icuVersion, getIcuVersion())) {
+        return Optional.empty();
+      }
+      final int size = buffer.getInt();
+      if (size != expectedReferenceLocales.size()) {
+        return Optional.empty();
+      }
+      for (ULocale expected : expectedReferenceLocales) {
+        final byte[] encoded = new byte[buffer.getInt()];
+        buffer.get(encoded);
+        if (!expected.toLanguageTag().equals(new String(encoded, StandardCharsets.US_ASCII))) {
+          return Optional.empty();
+        }
+      }
+      final long[] cells = new long[getLongCount(size)];
+      if (buffer.remaining() != Long.BYTES * cells.length) {
+        return Optional.empty();
+      }
+      buffer.asLongBuffer().get(cells);
+      return Optional.of(new ReferenceLocalesAffinityMatrix(expectedReferenceLocales, cells));
+    } catch (BufferUnderflowException | NegativeArraySizeException e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Reads the matrix from the {@link #RESOURCE_NAME} classpath resource, if present and up to date.
+   *
+   * @param expectedReferenceLocales ordered reference locales the matrix must have been generated
+   *     for
+   * @return the optional matrix, empty when the resource is missing, unreadable, stale or invalid
+   */
+  static Optional<ReferenceLocalesAffinityMatrix> readFromResource(
+      final List<ULocale> expectedReferenceLocales) {
+    try (InputStream inputStream =
+        ReferenceLocalesAffinityMatrix.class.getResourceAsStream(RESOURCE_NAME)) {
+      if (inputStream == null) {
+        return Optional.empty();
+      }
+      return read(ByteBuffer.wrap(inputStream.readAllBytes()), expectedReferenceLocales);
+    } catch (IOException e) {
+      return Optional.empty();
+    }
+  }
+
+  private static int getLongCount(final int size) {
+    final long cellCount = (long) size * size;
+    return Math.toIntExact((cellCount + CELLS_PER_LONG - 1) / CELLS_PER_LONG);
+  }
+
+  private static byte[] getIcuVersion() {
+    return VersionInfo.ICU_VERSION.toString().getBytes(StandardCharsets.US_ASCII);
+  }
+
+  /**
+   * Generates the matrix for all reference locales, and writes it to the file at the given path.
+   * This is invoked at build time, to generate the {@link #RESOURCE_NAME} classpath resource.
+   *
+   * @param args path of the file to write
+   * @throws IOException if the matrix could not be written
+   */
+  public static void main(final String[] args) throws IOException {
+    Preconditions.checkArgument(args.length == 1, "Expected a single output file path argument.");
+    final Path output = Paths.get(args[0]);
+    Files.createDirectories(output.toAbsolutePath().getParent());
+    try (FileChannel channel =
+        FileChannel.open(
+            output,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      ReferenceLocalesCalculatorBaseImpl.generateAffinityMatrix().writeTo(channel);
+    }
+  }
+}
@@ -20,9 +20,14 @@
 
 package com.spotify.i18n.locales.common.impl;
 
+import static com.spotify.i18n.locales.common.impl.LocaleAffinityBiCalculatorBaseImpl.convertDistanceToAffinityScore;
+import static com.spotify.i18n.locales.common.impl.LocaleAffinityBiCalculatorBaseImpl.convertScoreToLocaleAffinity;
+import static com.spotify.i18n.locales.common.impl.LocaleAffinityBiCalculatorBaseImpl.getBestDistanceBetweenLSR;
+import static com.spotify.i18n.locales.common.impl.LocaleAffinityBiCalculatorBaseImpl.isLanguageWithinAffinityDistance;
 import static com.spotify.i18n.locales.utils.hierarchy.LocalesHierarchyUtils.isSameLocale;
 
 import com.google.auto.value.AutoValue;
+import com.ibm.icu.impl.locale.LSR;
 import com.ibm.icu.util.LocaleMatcher;
 import com.ibm.icu.util.ULocale;
 import com.spotify.i18n.locales.common.LocaleAffinityBiCalculator;
@@ -32,14 +37,16 @@ import com.spotify.i18n.locales.common.model.LocaleAffinity;
 import com.spotify.i18n.locales.common.model.LocaleAffinityResult;
 import com.spotify.i18n.locales.common.model.RelatedReferenceLocale;
 import com.spotify.i18n.locales.utils.available.AvailableLocalesUtils;
-import com.spotify.i18n.locales.utils.languagetag.LanguageTagUtils;
 import edu.umd.cs.findbugs.annotations.Nullable;
+import java.util.ArrayList;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
-import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.stream.Collectors;
+import java.util.stream.Stream;
 
 /**
  * Base implementation of an engine that enables reference locales based operations, most notably to
@@ -55,16 +62,47 @@ import java.util.stream.Collectors;
 public abstract class ReferenceLocalesCalculatorBaseImpl
     implements ReferenceLocalesCalculator, LocaleAffinityBiCalculator {
 
+  /** All reference locales, ordered by language tag */
+  private static final List<ULocale> SORTED_REFERENCE_LOCALES =
+      AvailableLocalesUtils.getReferenceLocales().stream()
+          .sorted(Comparator.comparing(ULocale::toLanguageTag))
+          .collect(Collectors.toUnmodifiableList());
+
   /** Prepared {@link LocaleMatcher}, ready to find the best matching reference locale */
   private static final LocaleMatcher REFERENCE_LOCALE_MATCHER =
       LocaleMatcher.builder()
-          .setSupportedULocales(
-              AvailableLocalesUtils.getReferenceLocales().stream()
-                  .sorted(Comparator.comparing(ULocale::toLanguageTag))
-                  .collect(Collectors.toList()))
+          .setSupportedULocales(SORTED_REFERENCE_LOCALES)
           .setNoDefaultLocale()
           .build();
 
+  /** Reference locales, along with their precomputed properties, in a stable order */
+  private static final List<ReferenceLocaleEntry> REFERENCE_LOCALE_ENTRIES =
+      generateReferenceLocaleEntries();
+
+  /** Reference locale entries, indexed by their reference locale */
+  private static final Map<ULocale, ReferenceLocaleEntry> ENTRIES_BY_REFERENCE_LOCALE =
+      REFERENCE_LOCALE_ENTRIES.stream()
+          .collect(Collectors.toUnmodifiableMap(entry -> entry.referenceLocale, entry -> entry));
+
+  /** Reference locale entries, indexed by their spoken language locale */
+  private static final Map<ULocale, List<ReferenceLocaleEntry>> ENTRIES_BY_SPOKEN_LOCALE =
+      REFERENCE_LOCALE_ENTRIES.stream()
+          .filter(entry -> entry.spokenLocale.isPresent())
+          .collect(Collectors.groupingBy(entry -> entry.spokenLocale.get()));
+
+  /** Reference locale entries, indexed by the language code of their maximized {@link LSR} */
+  private static final Map<String, List<ReferenceLocaleEntry>> ENTRIES_BY_LSR_LANGUAGE =
+      REFERENCE_LOCALE_ENTRIES.stream()
+          .filter(entry -> entry.maximizedLSR != null)
+          .collect(Collectors.groupingBy(entry -> entry.maximizedLSR.language));
+
+  /**
+   * Lazily populated index of the reference locale entries that can possibly have some level of
+   * affinity with a locale, based on the language code of its maximized {@link LSR}.
+   */
+  private static final Map<String, List<ReferenceLocaleEntry>> CANDIDATE_ENTRIES_BY_LSR_LANGUAGE =
+      new ConcurrentHashMap<>();
+
   /**
    * Returns the list of related reference locales, along with their calculated affinity, for the
    * given language tag.
@@ -75,27 +113,104 @@ public abstract class ReferenceLocalesCalculatorBaseImpl
   @Override
   public List<RelatedReferenceLocale> calculateRelatedReferenceLocales(
       @Nullable final String languageTag) {
-    return LanguageTagUtils.parse(languageTag)
-        .map(this::getRelatedReferenceLocales)
-        .orElse(Collections.emptyList());
+    return getRelatedReferenceLocales(LanguageTagRecord.forLanguageTag(languageTag));
   }
 
-  private List<RelatedReferenceLocale> getRelatedReferenceLocales(final ULocale locale) {
-    final LocaleAffinityCalculator affinityCalculator = buildAffinityCalculator(locale);
-    return AvailableLocalesUtils.getReferenceLocales().stream()
+  private static List<RelatedReferenceLocale> getRelatedReferenceLocales(
+      final LanguageTagRecord record) {
+    if (!record.isAvailableLanguage()) {
+      return Collections.emptyList();
+    }
+    final Optional<ULocale> spokenLocale = record.spokenLanguageLocale();
+    final LSR maximizedLSR = record.maximizedLSR().get();
+    return getCandidateEntries(spokenLocale, maximizedLSR).stream()
         .map(
-            refLocale ->
+            entry ->
                 RelatedReferenceLocale.builder()
-                    .referenceLocale(refLocale)
-                    .affinity(affinityCalculator.calculate(refLocale.toLanguageTag()).affinity())
+                    .referenceLocale(entry.referenceLocale)
+                    .affinity(entry.calculateAffinity(spokenLocale, maximizedLSR))
                     .build())
         // We only retain reference locales with some level of affinity
         .filter(refLocale -> refLocale.affinity() != LocaleAffinity.NONE)
         .collect(Collectors.toList());
   }
 
-  private LocaleAffinityCalculator buildAffinityCalculator(final ULocale locale) {
-    return LocaleAffinityCalculatorBaseImpl.builder().againstLocales(Set.of(locale)).build();
+  /**
+   * Returns the reference locale entries which can possibly have some level of affinity with the
+   * locale identified by the given spoken locale and maximized {@link LSR}, ordered as in {@link
+   * #REFERENCE_LOCALE_ENTRIES}. These are the ones sharing the same spoken language, and the ones
+   * with a language close enough to the one of the given LSR.
+   */
+  private static List<ReferenceLocaleEntry> getCandidateEntries(
+      final Optional<ULocale> spokenLocale, final LSR maximizedLSR) {
+    final List<ReferenceLocaleEntry> languageCandidates =
+        CANDIDATE_ENTRIES_BY_LSR_LANGUAGE.computeIfAbsent(
+            maximizedLSR.language, ReferenceLocalesCalculatorBaseImpl::computeCandidateEntries);
+    final List<ReferenceLocaleEntry> spokenCandidates =
+        spokenLocale.map(ENTRIES_BY_SPOKEN_LOCALE::get).orElse(null);
+    if (spokenCandidates == null || languageCandidates.containsAll(spokenCandidates)) {
+      return languageCandidates;
+    }
+    return Stream.concat(languageCandidates.stream(), spokenCandidates.stream())
+        .distinct()
+        .sorted(Comparator.comparingInt(entry -> entry.position))
+        .collect(Collectors.toList());
+  }
+
+  private static List<ReferenceLocaleEntry> computeCandidateEntries(final String language) {
+    return ENTRIES_BY_LSR_LANGUAGE.entrySet().stream()
+        .filter(e -> isLanguageWithinAffinityDistance(language, e.getKey()))
+        .flatMap(e -> e.getValue().stream())
+        .sorted(Comparator.comparingInt(entry -> entry.position))
+        .collect(Collectors.toUnmodifiableList());
+  }
+
+  private static List<ReferenceLocaleEntry> generateReferenceLocaleEntries() {
+    final List<ReferenceLocaleEntry> entries = new ArrayList<>();
+    for (ULocale referenceLocale : AvailableLocalesUtils.getReferenceLocales()) {
+      entries.add(new ReferenceLocaleEntry(entries.size(), referenceLocale));
+    }
+    return Collections.unmodifiableList(entries);
+  }
+
+  /**
+   * A reference locale, along with the precomputed properties needed to calculate its affinity with
+   * any given locale.
+   */
+  private static final class ReferenceLocaleEntry {
+
+    private final int position;
+    private final ULocale referenceLocale;
+    private final Optional<ULocale> spokenLocale;
+    @Nullable private final LSR maximizedLSR;
+
+    private ReferenceLocaleEntry(final int position, final ULocale referenceLocale) {
+      this.position = position;
+      this.referenceLocale = referenceLocale;
+      final LanguageTagRecord record = LanguageTagRecord.compute(referenceLocale.toLanguageTag());
+      this.spokenLocale = record.spokenLanguageLocale();
+      this.maximizedLSR = record.maximizedLSR().orElse(null);
+    }
+
+    /**
+     * Calculates the affinity between this reference locale and the locale identified by the given
+     * spoken locale and maximized {@link LSR}, the same way a {@link LocaleAffinityCalculator}
+     * built against that locale would.
+     */
+    private LocaleAffinity calculateAffinity(
+        final Optional<ULocale> otherSpokenLocale, final LSR otherMaximizedLSR) {
+      if (spokenLocale.isPresent()
+          && otherSpokenLocale.isPresent()
+          && isSameLocale(spokenLocale.get(), otherSpokenLocale.get())) {
+        return LocaleAffinity.SAME;
+      } else if (maximizedLSR == null) {
+        return LocaleAffinity.NONE;
+      } else {
+        return convertScoreToLocaleAffinity(
+            convertDistanceToAffinityScore(
+                getBestDistanceBetweenLSR(maximizedLSR, otherMaximizedLSR)));
+      }
+    }
   }
 
   /**
@@ -107,7 +222,9 @@ public abstract class ReferenceLocalesCalculatorBaseImpl
   @Override
   public Optional<ULocale> calculateBestMatchingReferenceLocale(
       @Nullable final String languageTag) {
-    return LanguageTagUtils.parse(languageTag).map(REFERENCE_LOCALE_MATCHER::getBestMatch);
+    return LanguageTagRecord.forLanguageTag(languageTag)
+        .locale()
+        .map(REFERENCE_LOCALE_MATCHER::getBestMatch);
   }
 
   @Override
@@ -118,15 +235,54 @@ public abstract class ReferenceLocalesCalculatorBaseImpl
             calculateBestMatchingReferenceLocale(languageTag2)
                 .map(
                     referenceLocale ->
-                        calculateRelatedReferenceLocales(languageTag1).stream()
-                            .filter(rrl -> isSameLocale(rrl.referenceLocale(), referenceLocale))
-                            .findFirst()
-                            .map(RelatedReferenceLocale::affinity)
-                            .orElse(LocaleAffinity.NONE))
+                        getAffinity(
+                            LanguageTagRecord.forLanguageTag(languageTag1), referenceLocale))
                 .orElse(LocaleAffinity.NONE))
         .build();
   }
 
+  /**
+   * Returns the affinity of the given reference locale, calculated against the locale of the given
+   * language tag record. The affinity is looked up in the precomputed matrix when that locale is
+   * itself a reference locale.
+   */
+  private static LocaleAffinity getAffinity(
+      final LanguageTagRecord record, final ULocale referenceLocale) {
+    final ReferenceLocalesAffinityMatrix matrix = AffinityMatrixHolder.AFFINITY_MATRIX;
+    final int againstIndex = record.locale().map(matrix::indexOf).orElse(-1);
+    if (againstIndex >= 0) {
+      return matrix.get(againstIndex, matrix.indexOf(referenceLocale));
+    } else if (!record.isAvailableLanguage()) {
+      return LocaleAffinity.NONE;
+    } else {
+      return ENTRIES_BY_REFERENCE_LOCALE
+          .get(referenceLocale)
+          .calculateAffinity(record.spokenLanguageLocale(), record.maximizedLSR().get());
+    }
+  }
+
+  /**
+   * Generates the matrix of affinities between all reference locales, ordered by language tag.
+   *
+   * @return the generated matrix
+   */
+  static ReferenceLocalesAffinityMatrix generateAffinityMatrix() {
+    return ReferenceLocalesAffinityMatrix.generate(
+        SORTED_REFERENCE_LOCALES,
+        referenceLocale ->
+            getRelatedReferenceLocales(LanguageTagRecord.compute(referenceLocale.toLanguageTag())));
+  }
+
+  /**
+   * Holder of the matrix of affinities between all reference locales, loaded from its classpath
+   * resource on first use, or generated when the resource is missing, unreadable or stale.
+   */
+  private static final class AffinityMatrixHolder {
+    private static final ReferenceLocalesAffinityMatrix AFFINITY_MATRIX =
+        ReferenceLocalesAffinityMatrix.readFromResource(SORTED_REFERENCE_LOCALES)
+            .orElseGet(ReferenceLocalesCalculatorBaseImpl::generateAffinityMatrix);
+  }
+
   /**
    * Returns a {@link Builder} instance that will allow you to manually create a {@link
    * ReferenceLocalesCalculatorBaseImpl} instance.
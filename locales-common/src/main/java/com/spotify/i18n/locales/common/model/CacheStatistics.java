@@ -0,0 +1,107 @@
+/*-
+ * -\-\-
+ * locales-common
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.i18n.locales.common.model;
+
+import com.google.auto.value.AutoValue;
+import com.google.common.base.Preconditions;
+
+/**
+ * A model class that represents a snapshot of the statistics collected by a caching helper.
+ *
+ * <p>This class is not intended for public subclassing. New object instances must be created using
+ * the builder pattern, starting with the {@link #builder()} method.
+ *
+ * @author Eric Fjøsne
+ */
+@AutoValue
+public abstract class CacheStatistics {
+
+  /**
+   * Returns the number of times a lookup returned a cached value
+   *
+   * @return hit count
+   */
+  public abstract long hitCount();
+
+  /**
+   * Returns the number of times a lookup required the value to be calculated
+   *
+   * @return miss count
+   */
+  public abstract long missCount();
+
+  /**
+   * Returns the number of times an entry was evicted from the cache, either because the cache
+   * reached its maximum size or because the entry expired
+   *
+   * @return eviction count
+   */
+  public abstract long evictionCount();
+
+  /**
+   * Returns the ratio of lookups that returned a cached value, or 1.0 when no lookup was performed
+   * yet.
+   *
+   * @return hit rate, between 0.0 and 1.0
+   */
+  public double hitRate() {
+    final long requestCount = hitCount() + missCount();
+    return requestCount == 0 ? 1.0 : (double) hitCount() / requestCount;
+  }
+
+  /**
+   * Returns a {@link Builder} instance that will allow you to manually create a {@link
+   * CacheStatistics} instance.
+   *
+   * @return The builder
+   */
+  public static Builder builder() {
+    return new AutoValue_CacheStatistics.Builder();
+  }
+
+  @AutoValue.Builder
+  public abstract static class Builder {
+    Builder() {} // package private constructor
+
+    public abstract Builder hitCount(final long hitCount);
+
+    public abstract Builder missCount(final long missCount);
+
+    public abstract Builder evictionCount(final long evictionCount);
+
+    abstract CacheStatistics autoBuild(); // not public
+
+    /**
+     * Builds a {@link CacheStatistics} out of this builder.
+     *
+     * <p>This is safe to be called several times on the same builder.
+     *
+     * @throws IllegalStateException if any of the counts is negative.
+     */
+    public final CacheStatistics build() {
+      final CacheStatistics stats = autoBuild();
+      Preconditions.checkState(
+          stats.hitCount() >= 0 && stats.missCount() >= 0 && stats.evictionCount() >= 0,
+          "Cache statistics counts cannot be negative.");
+      return stats;
+    }
+  }
+}
@@ -0,0 +1,85 @@
+/*-
+ * -\-\-
+ * locales-common
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.i18n.locales.common.model;
+
+import com.google.auto.value.AutoValue;
+import com.google.common.base.Preconditions;
+
+/**
+ * A model class that represents a pair of language tags, joined based on the affinity between them.
+ *
+ * <p>This class is not intended for public subclassing. New object instances must be created using
+ * the builder pattern, starting with the {@link #builder()} method.
+ *
+ * @author Eric Fjøsne
+ */
+@AutoValue
+public abstract class LocaleAffinityJoinedPair {
+
+  /** Returns the language tag from the origin dataset */
+  public abstract String originLanguageTag();
+
+  /** Returns the language tag from the target dataset */
+  public abstract String targetLanguageTag();
+
+  /** Returns the calculated affinity between the origin and target language tags */
+  public abstract LocaleAffinity affinity();
+
+  /**
+   * Returns a {@link Builder} instance that will allow you to manually create a {@link
+   * LocaleAffinityJoinedPair} instance.
+   *
+   * @return The builder
+   */
+  public static Builder builder() {
+    return new AutoValue_LocaleAffinityJoinedPair.Builder();
+  }
+
+  @AutoValue.Builder
+  public abstract static class Builder {
+    Builder() {} // package private constructor
+
+    public abstract Builder originLanguageTag(final String languageTag);
+
+    public abstract Builder targetLanguageTag(final String languageTag);
+
+    public abstract Builder affinity(final LocaleAffinity affinity);
+
+    abstract LocaleAffinityJoinedPair autoBuild(); // not public
+
+    /**
+     * Builds a {@link LocaleAffinityJoinedPair} out of this builder.
+     *
+     * <p>This is safe to be called several times on the same builder.
+     *
+     * @throws IllegalStateException if the affinity is {@link LocaleAffinity#NONE}.
+     */
+    public final LocaleAffinityJoinedPair build() {
+      final LocaleAffinityJoinedPair pair = autoBuild();
+      Preconditions.checkState(
+          pair.affinity() != LocaleAffinity.NONE,
+          "Language tags with no affinity cannot be joined: %s, %s",
+          pair.originLanguageTag(),
+          pair.targetLanguageTag());
+      return pair;
+    }
+  }
+}
@@ -0,0 +1,126 @@
+/*-
+ * -\-\-
+ * locales-common
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.i18n.locales.common.model;
+
+import com.google.auto.value.AutoValue;
+import com.google.common.base.Preconditions;
+
+/**
+ * A model class that represents a snapshot of the statistics collected by a locales resolver, about
+ * the resolution passes that were needed to resolve the given "Accept-Language" values.
+ *
+ * <p>A value is first matched as given. When no match is found, a second pass matches the value
+ * again, after its language codes were overridden with the language of the default resolved locale.
+ * This second pass is skipped when it cannot produce a different result, answered from a cache of
+ * previous results when possible, and fully run otherwise.
+ *
+ * <p>This class is not intended for public subclassing. New object instances must be created using
+ * the builder pattern, starting with the {@link #builder()} method.
+ *
+ * @author Eric Fjøsne
+ */
+@AutoValue
+public abstract class ResolutionStatistics {
+
+  /**
+   * Returns the number of resolutions that went through the first pass
+   *
+   * @return first pass count
+   */
+  public abstract long firstPassCount();
+
+  /**
+   * Returns the number of resolutions for which the second pass was skipped, as it could not
+   * produce a different result than the first pass
+   *
+   * @return skipped second pass count
+   */
+  public abstract long secondPassSkippedCount();
+
+  /**
+   * Returns the number of resolutions for which the second pass was answered from the cache of
+   * previous results
+   *
+   * @return second pass lookup count
+   */
+  public abstract long secondPassLookupCount();
+
+  /**
+   * Returns the number of resolutions for which the second pass was fully run
+   *
+   * @return second pass count
+   */
+  public abstract long secondPassCount();
+
+  /**
+   * Returns the number of resolutions that returned the default resolved locale, including the ones
+   * for null or empty values
+   *
+   * @return default resolved locale count
+   */
+  public abstract long defaultResolvedLocaleCount();
+
+  /**
+   * Returns a {@link Builder} instance that will allow you to manually create a {@link
+   * ResolutionStatistics} instance.
+   *
+   * @return The builder
+   */
+  public static Builder builder() {
+    return new AutoValue_ResolutionStatistics.Builder();
+  }
+
+  @AutoValue.Builder
+  public abstract static class Builder {
+    Builder() {} // package private constructor
+
+    public abstract Builder firstPassCount(final long firstPassCount);
+
+    public abstract Builder secondPassSkippedCount(final long secondPassSkippedCount);
+
+    public abstract Builder secondPassLookupCount(final long secondPassLookupCount);
+
+    public abstract Builder secondPassCount(final long secondPassCount);
+
+    public abstract Builder defaultResolvedLocaleCount(final long defaultResolvedLocaleCount);
+
+    abstract ResolutionStatistics autoBuild(); // not public
+
+    /**
+     * Builds a {@link ResolutionStatistics} out of this builder.
+     *
+     * <p>This is safe to be called several times on the same builder.
+     *
+     * @throws IllegalStateException if any of the counts is negative.
+     */
+    public final ResolutionStatistics build() {
+      final ResolutionStatistics stats = autoBuild();
+      Preconditions.checkState(
+          stats.firstPassCount() >= 0
+              && stats.secondPassSkippedCount() >= 0
+              && stats.secondPassLookupCount() >= 0
+              && stats.secondPassCount() >= 0
+              && stats.defaultResolvedLocaleCount() >= 0,
+          "Resolution statistics counts cannot be negative.");
+      return stats;
+    }
+  }
+}
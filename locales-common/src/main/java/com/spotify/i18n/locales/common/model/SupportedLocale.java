@@ -27,6 +27,7 @@ import com.google.common.base.Preconditions;
 import com.ibm.icu.util.ULocale;
 import com.spotify.i18n.locales.utils.available.AvailableLocalesUtils;
 import com.spotify.i18n.locales.utils.hierarchy.LocalesHierarchyUtils;
+import com.spotify.i18n.locales.utils.ids.LocaleSet;
 import java.util.Locale;
 import java.util.Objects;
 import java.util.Set;
@@ -138,6 +139,19 @@ public abstract class SupportedLocale {
         .build();
   }
 
+  /**
+   * Returns the given root locale for formatting along with all its descendants, as a {@link
+   * LocaleSet}.
+   *
+   * @param rootLocaleForFormatting the highest ancestor locale of a locale for translations
+   * @return the locales which are acceptable for formatting
+   */
+  private static LocaleSet getAllowedLocalesForFormatting(final ULocale rootLocaleForFormatting) {
+    return LocaleSet.of(rootLocaleForFormatting)
+        .union(
+            LocaleSet.copyOf(LocalesHierarchyUtils.getDescendantLocales(rootLocaleForFormatting)));
+  }
+
   /**
    * Returns the locale identifying the language in which translations are available.
    *
@@ -221,6 +235,15 @@ public abstract class SupportedLocale {
 
       final ULocale rootLocaleForFormatting =
           LocalesHierarchyUtils.getHighestAncestorLocale(sl.localeForTranslations());
+      final LocaleSet allowedLocalesForFormatting =
+          getAllowedLocalesForFormatting(rootLocaleForFormatting);
+      if (allowedLocalesForFormatting.containsAll(sl.relatedLocalesForFormatting())) {
+        // Fast path: all related locales are known to be valid. The set is kept as given, as its
+        // iteration order drives tie-breaking when matching locales for formatting.
+        return sl;
+      }
+
+      // Slow path: at least one related locale is invalid, we identify it to report it.
       sl.relatedLocalesForFormatting().stream()
           .forEach(
               relatedLocale -> {
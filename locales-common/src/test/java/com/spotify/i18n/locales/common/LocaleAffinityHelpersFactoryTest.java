@@ -164,6 +164,22 @@ class LocaleAffinityHelpersFactoryTest {
             instanceof LocaleAffinityBiCalculator);
   }
 
+  @Test
+  void whenBuildingAffinityJoiner_returnsExpectedJoiner() {
+    final LocaleAffinityJoiner joiner =
+        LocaleAffinityHelpersFactory.getDefaultInstance()
+            .buildAffinityJoiner(LocaleAffinity.MUTUALLY_INTELLIGIBLE);
+
+    assertEquals(LocaleAffinity.MUTUALLY_INTELLIGIBLE, joiner.minimumAffinity());
+  }
+
+  @Test
+  void whenBuildingCachingAffinityBiCalculator_returnsExpectedCalculator() {
+    assertTrue(
+        LocaleAffinityHelpersFactory.getDefaultInstance().buildCachingAffinityBiCalculator()
+            instanceof CachingLocaleAffinityBiCalculator);
+  }
+
   @ParameterizedTest
   @MethodSource
   void
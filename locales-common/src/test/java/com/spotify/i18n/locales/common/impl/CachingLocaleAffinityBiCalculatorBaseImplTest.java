@@ -0,0 +1,148 @@
+/*-
+ * -\-\-
+ * locales-common
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.i18n.locales.common.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.ibm.icu.impl.locale.LSR;
+import com.ibm.icu.util.ULocale;
+import com.spotify.i18n.locales.common.CachingLocaleAffinityBiCalculator;
+import com.spotify.i18n.locales.common.LocaleAffinityBiCalculator;
+import com.spotify.i18n.locales.common.model.CacheStatistics;
+import com.spotify.i18n.locales.common.model.LocaleAffinity;
+import com.spotify.i18n.locales.common.model.LocaleAffinityResult;
+import com.spotify.i18n.locales.utils.available.AvailableLocalesUtils;
+import java.util.List;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class CachingLocaleAffinityBiCalculatorBaseImplTest {
+
+  private static final LocaleAffinityBiCalculator BI_CALCULATOR =
+      LocaleAffinityBiCalculatorBaseImpl.builder().build();
+
+  @Test
+  void whenBuildingWithNegativeMaximumSize_buildFails() {
+    IllegalStateException thrown =
+        assertThrows(
+            IllegalStateException.class,
+            () -> CachingLocaleAffinityBiCalculatorBaseImpl.builder().maximumSize(-1).build());
+
+    assertEquals("The maximum size of the cache cannot be negative.", thrown.getMessage());
+  }
+
+  @Test
+  void whenBuildingWithDefaults_buildSucceeds() {
+    final CachingLocaleAffinityBiCalculatorBaseImpl built =
+        (CachingLocaleAffinityBiCalculatorBaseImpl)
+            CachingLocaleAffinityBiCalculatorBaseImpl.builder().build();
+
+    assertEquals(
+        CachingLocaleAffinityBiCalculatorBaseImpl.DEFAULT_MAXIMUM_SIZE, built.maximumSize());
+  }
+
+  @ParameterizedTest
+  @MethodSource
+  void whenCalculating_returnsSameAffinityAsNonCachingCalculator(
+      final String languageTag1, final String languageTag2, final LocaleAffinity expectedAffinity) {
+    final CachingLocaleAffinityBiCalculator calculator =
+        CachingLocaleAffinityBiCalculatorBaseImpl.builder().build();
+    final LocaleAffinityResult expected =
+        LocaleAffinityResult.builder().affinity(expectedAffinity).build();
+
+    assertThat(calculator.calculate(languageTag1, languageTag2), is(expected));
+    assertThat(calculator.calculate(languageTag2, languageTag1), is(expected));
+    assertThat(calculator.calculate(languageTag1, languageTag2), is(expected));
+  }
+
+  public static Stream<Arguments> whenCalculating_returnsSameAffinityAsNonCachingCalculator() {
+    return Stream.of(
+        Arguments.of(null, null, LocaleAffinity.NONE),
+        Arguments.of("", "en", LocaleAffinity.NONE),
+        Arguments.of("ok-junk", "en", LocaleAffinity.NONE),
+        Arguments.of("en-GB", "en-JP", LocaleAffinity.SAME),
+        Arguments.of("bs-Cyrl-BA", "hr-MK", LocaleAffinity.MUTUALLY_INTELLIGIBLE),
+        Arguments.of("de", "gsw-CH", LocaleAffinity.MUTUALLY_INTELLIGIBLE),
+        Arguments.of("da-SE", "nb-FI", LocaleAffinity.HIGH),
+        Arguments.of("es-BE", "ca", LocaleAffinity.LOW),
+        Arguments.of("ja", "pt-US", LocaleAffinity.NONE));
+  }
+
+  @Test
+  void whenCalculatingForAllCldrLocalePairs_returnsSameAffinityAsNonCachingCalculator() {
+    final List<String> languageTags =
+        AvailableLocalesUtils.getCldrLocales().stream()
+            .map(ULocale::toLanguageTag)
+            .sorted()
+            .filter(tag -> Math.floorMod(tag.hashCode(), 4) == 0)
+            .collect(Collectors.toList());
+    final CachingLocaleAffinityBiCalculator calculator =
+        CachingLocaleAffinityBiCalculatorBaseImpl.builder().maximumSize(1_000).build();
+
+    for (String languageTag1 : languageTags) {
+      for (String languageTag2 : languageTags) {
+        assertEquals(
+            BI_CALCULATOR.calculate(languageTag1, languageTag2),
+            calculator.calculate(languageTag1, languageTag2),
+            languageTag1 + " / " + languageTag2);
+      }
+    }
+  }
+
+  @Test
+  void whenCalculatingRepeatedPairs_statsReflectCacheUsage() {
+    final CachingLocaleAffinityBiCalculator calculator =
+        CachingLocaleAffinityBiCalculatorBaseImpl.builder().maximumSize(1).build();
+
+    calculator.calculate("da-SE", "nb-FI");
+    calculator.calculate("nb-FI", "da-SE");
+    calculator.calculate("da-Latn-SE", "nb-Latn-FI");
+    // Same spoken language, invalid and empty tags never hit the cache
+    calculator.calculate("fr-SE", "fr-CA");
+    calculator.calculate("ok-junk", "");
+    calculator.calculate("es", "ca");
+
+    assertEquals(
+        CacheStatistics.builder().hitCount(2).missCount(2).evictionCount(1).build(),
+        calculator.stats());
+  }
+
+  @Test
+  void whenCreatingPairs_pairsAreUnorderedAndIgnoreFlags() {
+    final LSR lsr1 = new LSR("de", "Latn", "DE", LSR.EXPLICIT_LSR);
+    final LSR lsr2 = new LSR("gsw", "Latn", "CH", LSR.IMPLICIT_LSR);
+
+    assertEquals(
+        CachingLocaleAffinityBiCalculatorBaseImpl.LSRPair.of(lsr1, lsr2),
+        CachingLocaleAffinityBiCalculatorBaseImpl.LSRPair.of(
+            new LSR("gsw", "Latn", "CH", LSR.EXPLICIT_LSR), lsr1));
+    assertEquals(
+        CachingLocaleAffinityBiCalculatorBaseImpl.LSRPair.of(lsr1, lsr2),
+        CachingLocaleAffinityBiCalculatorBaseImpl.LSRPair.of(lsr2, lsr1));
+  }
+}
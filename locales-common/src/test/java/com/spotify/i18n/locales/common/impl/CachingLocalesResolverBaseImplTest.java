@@ -0,0 +1,172 @@
+/*-
+ * -\-\-
+ * locales-common
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.i18n.locales.common.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+import com.spotify.i18n.locales.common.CachingLocalesResolver;
+import com.spotify.i18n.locales.common.LocalesResolver;
+import com.spotify.i18n.locales.common.model.CacheStatistics;
+import com.spotify.i18n.locales.common.model.ResolvedLocale;
+import com.spotify.i18n.locales.common.model.SupportedLocale;
+import java.time.Duration;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.mockito.Mockito;
+
+class CachingLocalesResolverBaseImplTest {
+
+  private static final ResolvedLocale DEFAULT_LOCALE = ResolvedLocale.fromLanguageTags("en", "en");
+
+  private static final LocalesResolver RESOLVER =
+      LocalesResolverBaseImpl.builder()
+          .supportedLocales(
+              Set.of("fr", "ja", "zh-Hant").stream()
+                  .map(SupportedLocale::fromLanguageTag)
+                  .collect(Collectors.toSet()))
+          .defaultResolvedLocale(DEFAULT_LOCALE)
+          .build();
+
+  @Test
+  void whenBuildingWithMissingRequiredProperties_buildFails() {
+    IllegalStateException thrown =
+        assertThrows(
+            IllegalStateException.class, () -> CachingLocalesResolverBaseImpl.builder().build());
+
+    assertEquals("Missing required properties: delegate", thrown.getMessage());
+  }
+
+  @Test
+  void whenBuildingWithNegativeMaximumSize_buildFails() {
+    IllegalStateException thrown =
+        assertThrows(
+            IllegalStateException.class,
+            () ->
+                CachingLocalesResolverBaseImpl.builder()
+                    .delegate(RESOLVER)
+                    .maximumSize(-1)
+                    .build());
+
+    assertEquals("The maximum size of the cache cannot be negative.", thrown.getMessage());
+  }
+
+  @Test
+  void whenResolving_returnsSameValuesAsDelegate() {
+    CachingLocalesResolver resolver =
+        CachingLocalesResolverBaseImpl.builder().delegate(RESOLVER).build();
+
+    for (String acceptLanguage :
+        new String[] {null, "", "fr-BE", "ja-JP,fr;q=0.5", "*-HK", "xx", "fr-BE", "*-HK"}) {
+      assertThat(resolver.resolve(acceptLanguage), is(RESOLVER.resolve(acceptLanguage)));
+    }
+  }
+
+  @Test
+  void whenResolvingSameValueSeveralTimes_delegateIsCalledOnce() {
+    LocalesResolver delegate = Mockito.spy(RESOLVER);
+    CachingLocalesResolver resolver =
+        CachingLocalesResolverBaseImpl.builder().delegate(delegate).build();
+
+    resolver.resolve("fr-BE");
+    resolver.resolve("fr-BE");
+    resolver.resolve("ja");
+
+    verify(delegate, times(1)).resolve("fr-BE");
+    verify(delegate, times(1)).resolve("ja");
+    assertThat(
+        resolver.stats(),
+        is(CacheStatistics.builder().hitCount(1).missCount(2).evictionCount(0).build()));
+  }
+
+  @Test
+  void whenResolvingValuesDifferingByCaseOrSpaces_singleEntryIsShared() {
+    LocalesResolver delegate = Mockito.spy(RESOLVER);
+    CachingLocalesResolver resolver =
+        CachingLocalesResolverBaseImpl.builder().delegate(delegate).build();
+
+    for (String acceptLanguage :
+        new String[] {"ja-JP,fr;q=0.5", "JA-jp, FR;q=0.5", " ja-jp,fr;q=0.5"}) {
+      assertThat(resolver.resolve(acceptLanguage), is(RESOLVER.resolve(acceptLanguage)));
+    }
+
+    verify(delegate, times(1)).resolve(anyString());
+    assertThat(
+        resolver.stats(),
+        is(CacheStatistics.builder().hitCount(2).missCount(1).evictionCount(0).build()));
+  }
+
+  @Test
+  void whenResolvingOverlyLongValues_cacheIsBypassed() {
+    CachingLocalesResolver resolver =
+        CachingLocalesResolverBaseImpl.builder().delegate(RESOLVER).build();
+    String acceptLanguage =
+        "fr-BE," + " ".repeat(CachingLocalesResolverBaseImpl.MAXIMUM_CACHED_VALUE_LENGTH);
+
+    assertThat(resolver.resolve(acceptLanguage), is(RESOLVER.resolve(acceptLanguage)));
+    assertThat(resolver.stats().missCount(), is(0L));
+  }
+
+  @Test
+  void whenResolvingNullOrEmptyValues_cacheIsBypassed() {
+    CachingLocalesResolver resolver =
+        CachingLocalesResolverBaseImpl.builder().delegate(RESOLVER).build();
+
+    assertThat(resolver.resolve(null), is(DEFAULT_LOCALE));
+    assertThat(resolver.resolve(""), is(DEFAULT_LOCALE));
+    assertThat(resolver.stats().missCount(), is(0L));
+  }
+
+  @Test
+  void whenCacheIsFull_entriesAreEvicted() {
+    CachingLocalesResolver resolver =
+        CachingLocalesResolverBaseImpl.builder().delegate(RESOLVER).maximumSize(1).build();
+
+    resolver.resolve("fr-BE");
+    resolver.resolve("ja");
+    resolver.resolve("fr-BE");
+
+    assertThat(resolver.stats().missCount(), is(3L));
+    assertThat(resolver.stats().evictionCount(), is(2L));
+  }
+
+  @Test
+  void whenEntriesExpireImmediately_nothingIsCached() {
+    LocalesResolver delegate = Mockito.spy(RESOLVER);
+    CachingLocalesResolver resolver =
+        CachingLocalesResolverBaseImpl.builder()
+            .delegate(delegate)
+            .expireAfterWrite(Duration.ZERO)
+            .build();
+
+    resolver.resolve("fr-BE");
+    resolver.resolve("fr-BE");
+
+    verify(delegate, times(2)).resolve("fr-BE");
+    assertThat(resolver.stats().hitCount(), is(0L));
+  }
+}
@@ -32,6 +32,7 @@ import com.spotify.i18n.locales.common.ContextBasedLocalesResolver;
 import com.spotify.i18n.locales.common.impl.model.LocalesResolutionContext;
 import com.spotify.i18n.locales.common.model.ResolvedLocale;
 import com.spotify.i18n.locales.common.model.SupportedLocale;
+import java.util.HashSet;
 import java.util.Optional;
 import java.util.Set;
 import java.util.concurrent.CompletableFuture;
@@ -85,4 +86,72 @@ class ContextBasedLocalesResolverBaseImplTest {
 
     assertThat(resolver.resolve(context), stageCompletedWithValueThat(is(resolvedLocale)));
   }
+
+  @Test
+  void whenResolvingSeveralTimes_localesResolversAreInterned() {
+    ContextBasedLocalesResolverBaseImpl<LocalesResolutionContext> resolver =
+        (ContextBasedLocalesResolverBaseImpl<LocalesResolutionContext>)
+            ContextBasedLocalesResolverBaseImpl.builder()
+                .contextToSupportedLocales(contextToSupportedLocalesMocked)
+                .contextToAcceptLanguage(contextToAcceptLanguageMocked)
+                .contextToDefaultResolvedLocale(contextToDefaultResolvedLocaleMocked)
+                .build();
+
+    Set<SupportedLocale> supportedLocales =
+        Set.of(SupportedLocale.fromLanguageTag("en"), SupportedLocale.fromLanguageTag("fr"));
+    Set<SupportedLocale> updatedSupportedLocales = Set.of(SupportedLocale.fromLanguageTag("fr"));
+
+    ResolvedLocale defaultLocale = ResolvedLocale.fromLanguageTags("en", "en");
+
+    when(contextToSupportedLocalesMocked.apply(any()))
+        .thenReturn(CompletableFuture.completedFuture(supportedLocales))
+        .thenReturn(CompletableFuture.completedFuture(supportedLocales))
+        .thenReturn(CompletableFuture.completedFuture(updatedSupportedLocales));
+    when(contextToAcceptLanguageMocked.apply(any()))
+        .thenReturn(CompletableFuture.completedFuture(Optional.of("fr-BE")));
+    when(contextToDefaultResolvedLocaleMocked.apply(any()))
+        .thenReturn(CompletableFuture.completedFuture(defaultLocale));
+
+    ResolvedLocale expected = ResolvedLocale.fromLanguageTags("fr", "fr-BE");
+    assertThat(resolver.resolve(context), stageCompletedWithValueThat(is(expected)));
+    assertThat(resolver.resolve(context), stageCompletedWithValueThat(is(expected)));
+    assertThat(resolver.internedLocalesResolvers().size(), is(1L));
+
+    // A new supported locales set gets a new resolver
+    assertThat(resolver.resolve(context), stageCompletedWithValueThat(is(expected)));
+    assertThat(resolver.internedLocalesResolvers().size(), is(2L));
+  }
+
+  @Test
+  void whenSupplyingEqualButDistinctSets_localesResolverIsShared() {
+    ContextBasedLocalesResolverBaseImpl<LocalesResolutionContext> resolver =
+        (ContextBasedLocalesResolverBaseImpl<LocalesResolutionContext>)
+            ContextBasedLocalesResolverBaseImpl.builder()
+                .contextToSupportedLocales(contextToSupportedLocalesMocked)
+                .contextToAcceptLanguage(contextToAcceptLanguageMocked)
+                .contextToDefaultResolvedLocale(contextToDefaultResolvedLocaleMocked)
+                .build();
+
+    ResolvedLocale defaultLocale = ResolvedLocale.fromLanguageTags("en", "en");
+
+    // A fresh set is supplied on every call
+    when(contextToSupportedLocalesMocked.apply(any()))
+        .thenAnswer(
+            invocation ->
+                CompletableFuture.completedFuture(
+                    new HashSet<>(
+                        Set.of(
+                            SupportedLocale.fromLanguageTag("en"),
+                            SupportedLocale.fromLanguageTag("fr")))));
+    when(contextToAcceptLanguageMocked.apply(any()))
+        .thenReturn(CompletableFuture.completedFuture(Optional.of("fr-BE")));
+    when(contextToDefaultResolvedLocaleMocked.apply(any()))
+        .thenReturn(CompletableFuture.completedFuture(defaultLocale));
+
+    ResolvedLocale expected = ResolvedLocale.fromLanguageTags("fr", "fr-BE");
+    for (int i = 0; i < 3; i++) {
+      assertThat(resolver.resolve(context), stageCompletedWithValueThat(is(expected)));
+    }
+    assertThat(resolver.internedLocalesResolvers().size(), is(1L));
+  }
 }
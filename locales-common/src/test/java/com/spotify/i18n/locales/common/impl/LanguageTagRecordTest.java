@@ -0,0 +1,95 @@
+/*-
+ * -\-\-
+ * locales-common
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.i18n.locales.common.impl;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ibm.icu.util.ULocale;
+import com.spotify.i18n.locales.utils.ids.LocaleIdsUtils;
+import com.spotify.i18n.locales.utils.language.LanguageUtils;
+import com.spotify.i18n.locales.utils.languagetag.LanguageTagUtils;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LanguageTagRecordTest {
+
+  @ParameterizedTest
+  @ValueSource(strings = {"en", "en_US", "EN-gb", "ja@calendar=buddhist", "zh-TW", "hr-BA", "sr"})
+  void whenComputingForAvailableLanguage_returnsExpected(final String languageTag) {
+    final LanguageTagRecord record = LanguageTagRecord.compute(languageTag);
+
+    assertEquals(LanguageTagUtils.parse(languageTag), record.locale());
+    assertEquals(LanguageUtils.getSpokenLanguageLocale(languageTag), record.spokenLanguageLocale());
+    assertTrue(record.isAvailableLanguage());
+    assertEquals(
+        LocaleAffinityBiCalculatorBaseImpl.getMaximizedLanguageScriptRegion(record.locale().get()),
+        record.maximizedLSR().get());
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", " ", "und", "xx", "tlh", "*", "a-b-c"})
+  void whenComputingForUnavailableLanguage_hasNoMaximizedLSR(final String languageTag) {
+    final LanguageTagRecord record = LanguageTagRecord.compute(languageTag);
+
+    assertEquals(LanguageTagUtils.parse(languageTag), record.locale());
+    assertFalse(record.isAvailableLanguage());
+    assertTrue(record.maximizedLSR().isEmpty());
+  }
+
+  @Test
+  void whenGettingForNullOrEmptyLanguageTag_returnsEmptyRecord() {
+    for (String languageTag : new String[] {null, ""}) {
+      final LanguageTagRecord record = LanguageTagRecord.forLanguageTag(languageTag);
+      assertTrue(record.locale().isEmpty());
+      assertTrue(record.spokenLanguageLocale().isEmpty());
+      assertFalse(record.isAvailableLanguage());
+    }
+  }
+
+  @Test
+  void whenGettingForLocaleId_returnsRecordOfItsLanguageTag() {
+    assertEquals(
+        LanguageTagRecord.forLanguageTag(""),
+        LanguageTagRecord.forLocaleId(LocaleIdsUtils.NO_LOCALE_ID));
+    for (int localeId = 0; localeId < LocaleIdsUtils.getLocaleIdCount(); localeId++) {
+      final LanguageTagRecord record = LanguageTagRecord.forLocaleId(localeId);
+      assertEquals(LanguageTagRecord.compute(LocaleIdsUtils.getLanguageTag(localeId)), record);
+      assertSame(record, LanguageTagRecord.forLocaleId(localeId));
+    }
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> LanguageTagRecord.forLocaleId(LocaleIdsUtils.getLocaleIdCount()));
+  }
+
+  @Test
+  void whenGettingSeveralTimes_recordIsShared() {
+    final LanguageTagRecord record = LanguageTagRecord.forLanguageTag("fr-CA");
+
+    assertSame(record, LanguageTagRecord.forLanguageTag("fr-CA"));
+    assertEquals(ULocale.CANADA_FRENCH, record.locale().get());
+    assertEquals(LanguageTagRecord.compute("fr-CA"), record);
+  }
+}
@@ -34,6 +34,7 @@ import com.spotify.i18n.locales.common.LocaleAffinityBiCalculator;
 import com.spotify.i18n.locales.common.LocaleAffinityCalculator;
 import com.spotify.i18n.locales.common.model.LocaleAffinity;
 import com.spotify.i18n.locales.common.model.LocaleAffinityResult;
+import com.spotify.i18n.locales.utils.ids.LocaleIdsUtils;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -149,6 +150,29 @@ class LocaleAffinityBiCalculatorBaseImplTest {
         Arguments.of("zh-TW", "zh-US", SAME));
   }
 
+  @ParameterizedTest
+  @MethodSource("whenCalculating_returnsExpectedAffinity")
+  void whenCalculatingForLocaleIds_returnsSameAffinityAsForLanguageTags(
+      final String languageTag1, final String languageTag2, final LocaleAffinity expectedAffinity) {
+    final int localeId1 = LocaleIdsUtils.getLocaleId(languageTag1);
+    final int localeId2 = LocaleIdsUtils.getLocaleId(languageTag2);
+    final LocaleAffinityBiCalculator defaultImplementation = BI_CALCULATOR::calculate;
+
+    assertThat(
+        BI_CALCULATOR.calculate(localeId1, localeId2),
+        is(
+            BI_CALCULATOR.calculate(
+                localeId1 == LocaleIdsUtils.NO_LOCALE_ID
+                    ? null
+                    : LocaleIdsUtils.getLanguageTag(localeId1),
+                localeId2 == LocaleIdsUtils.NO_LOCALE_ID
+                    ? null
+                    : LocaleIdsUtils.getLanguageTag(localeId2))));
+    assertThat(
+        defaultImplementation.calculate(localeId1, localeId2),
+        is(BI_CALCULATOR.calculate(localeId1, localeId2)));
+  }
+
   @Test
   void whenCalculatingAffinityForSwedishAgainstBokmaalNorwegianAndDanish_returnsNone() {
     final LocaleAffinityCalculator matcher =
@@ -33,9 +33,15 @@ import com.ibm.icu.util.ULocale;
 import com.spotify.i18n.locales.common.LocaleAffinityCalculator;
 import com.spotify.i18n.locales.common.model.LocaleAffinity;
 import com.spotify.i18n.locales.common.model.LocaleAffinityResult;
+import com.spotify.i18n.locales.utils.available.AvailableLocalesUtils;
+import com.spotify.i18n.locales.utils.ids.LocaleIdsUtils;
+import java.util.Arrays;
 import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
 import java.util.Set;
 import java.util.stream.Collectors;
+import java.util.stream.IntStream;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -64,6 +70,82 @@ class LocaleAffinityCalculatorBaseImplTest {
     assertEquals(thrown.getMessage(), "Property \"againstLocales\" has not been set");
   }
 
+  @Test
+  void whenCalculatingAll_returnsSameAffinitiesAsCalculatingEachLanguageTag() {
+    final List<String> languageTags =
+        Stream.concat(
+                AvailableLocalesUtils.getCldrLocales().stream().map(ULocale::toLanguageTag),
+                Stream.of(
+                    null,
+                    "",
+                    " ",
+                    "en-US",
+                    "en_US",
+                    "EN-us",
+                    "en-US",
+                    "ja@calendar=buddhist",
+                    "zh-TW",
+                    "zh_TW",
+                    "hr-BA",
+                    "sr-ME",
+                    "xx",
+                    "tlh",
+                    "und",
+                    "*",
+                    "en-US",
+                    null))
+            .collect(Collectors.toList());
+
+    for (LocaleAffinityCalculator calculator :
+        List.of(CALCULATOR_AGAINST_EMPTY_SET, CALCULATOR_AGAINST_TEST_SET_OF_LOCALES)) {
+      final LocaleAffinity[] affinities = calculator.calculateAll(languageTags);
+      assertEquals(languageTags.size(), affinities.length);
+      for (int i = 0; i < affinities.length; i++) {
+        assertEquals(
+            calculator.calculate(languageTags.get(i)).affinity(),
+            affinities[i],
+            String.valueOf(languageTags.get(i)));
+      }
+    }
+  }
+
+  @Test
+  void whenCalculatingAllForEmptyList_returnsEmptyArray() {
+    assertEquals(0, CALCULATOR_AGAINST_TEST_SET_OF_LOCALES.calculateAll(List.of()).length);
+  }
+
+  @Test
+  void whenCalculatingAllWithDefaultImplementation_calculatesEachLanguageTag() {
+    final LocaleAffinityCalculator calculator =
+        languageTag ->
+            LocaleAffinityResult.builder()
+                .affinity(
+                    languageTag == null
+                        ? NONE
+                        : CALCULATOR_AGAINST_TEST_SET_OF_LOCALES.calculate(languageTag).affinity())
+                .build();
+
+    assertThat(
+        calculator.calculateAll(Arrays.asList("fr-CA", null, "hr-HR", "ca")),
+        is(new LocaleAffinity[] {SAME, NONE, MUTUALLY_INTELLIGIBLE, LOW}));
+  }
+
+  @Test
+  void whenCalculatingForLocaleIds_returnsSameAffinityAsForLanguageTags() {
+    final LocaleAffinityCalculator defaultImplementation =
+        CALCULATOR_AGAINST_TEST_SET_OF_LOCALES::calculate;
+
+    assertThat(
+        CALCULATOR_AGAINST_TEST_SET_OF_LOCALES.calculate(LocaleIdsUtils.NO_LOCALE_ID),
+        is(LocaleAffinityResult.builder().affinity(NONE).build()));
+    for (int localeId = 0; localeId < LocaleIdsUtils.getLocaleIdCount(); localeId++) {
+      final LocaleAffinityResult expected =
+          CALCULATOR_AGAINST_TEST_SET_OF_LOCALES.calculate(LocaleIdsUtils.getLanguageTag(localeId));
+      assertThat(CALCULATOR_AGAINST_TEST_SET_OF_LOCALES.calculate(localeId), is(expected));
+      assertThat(defaultImplementation.calculate(localeId), is(expected));
+    }
+  }
+
   @Test
   void whenBuildingWithRootAsPartOfAgainstLocales_buildFails() {
     final IllegalStateException thrown =
@@ -91,6 +173,7 @@ class LocaleAffinityCalculatorBaseImplTest {
     assertTrue(built.againstLocales().isEmpty());
     assertTrue(built.againstSpokenLocales().isEmpty());
     assertTrue(built.againstMaximizedLSRs().isEmpty());
+    assertTrue(built.againstMaximizedLSRsByLanguage().isEmpty());
   }
 
   @Test
@@ -134,6 +217,53 @@ class LocaleAffinityCalculatorBaseImplTest {
             "zh-Hans-CN",
             "zh-Hant-TW"),
         built.againstMaximizedLSRs().stream().map(LSR::toString).collect(Collectors.toSet()));
+
+    assertEquals(
+        Set.of("de", "en", "fr", "ja", "zh"), built.againstMaximizedLSRsByLanguage().keySet());
+    assertEquals(
+        Set.of("de-Latn-AT", "de-Latn-CH", "de-Latn-DE"),
+        built.againstMaximizedLSRsByLanguage().get("de").stream()
+            .map(LSR::toString)
+            .collect(Collectors.toSet()));
+  }
+
+  @Test
+  void whenCalculatingScoreBasedAffinity_matchesBestDistanceAgainstAllMaximizedLSRs() {
+    // Calculate against one out of five CLDR locales, so that most languages get scored
+    final List<ULocale> cldrLocales =
+        AvailableLocalesUtils.getCldrLocales().stream()
+            .sorted(Comparator.comparing(ULocale::toLanguageTag))
+            .collect(Collectors.toList());
+    final Set<ULocale> againstLocales =
+        IntStream.range(0, cldrLocales.size())
+            .filter(i -> i % 5 == 0)
+            .mapToObj(cldrLocales::get)
+            .collect(Collectors.toSet());
+    final LocaleAffinityCalculatorBaseImpl calculator =
+        (LocaleAffinityCalculatorBaseImpl)
+            LocaleAffinityCalculatorBaseImpl.builder().againstLocales(againstLocales).build();
+
+    for (ULocale locale : cldrLocales) {
+      final LSR maxParsed =
+          LocaleAffinityBiCalculatorBaseImpl.getMaximizedLanguageScriptRegion(locale);
+      final int bruteForceDistance =
+          calculator.againstMaximizedLSRs().stream()
+              .mapToInt(
+                  maxAgainst ->
+                      LocaleAffinityBiCalculatorBaseImpl.getBestDistanceBetweenLSR(
+                          maxParsed, maxAgainst))
+              .min()
+              .orElse(Integer.MAX_VALUE);
+      final LocaleAffinity bruteForceAffinity =
+          LocaleAffinityBiCalculatorBaseImpl.convertScoreToLocaleAffinity(
+              LocaleAffinityBiCalculatorBaseImpl.convertDistanceToAffinityScore(
+                  bruteForceDistance));
+
+      final LocaleAffinity affinity = calculator.calculate(locale.toLanguageTag()).affinity();
+      if (affinity != SAME) {
+        assertEquals(bruteForceAffinity, affinity, locale.toLanguageTag());
+      }
+    }
   }
 
   @ParameterizedTest
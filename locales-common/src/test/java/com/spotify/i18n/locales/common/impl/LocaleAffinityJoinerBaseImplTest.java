@@ -0,0 +1,194 @@
+/*-
+ * -\-\-
+ * locales-common
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.i18n.locales.common.impl;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.empty;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.ibm.icu.util.ULocale;
+import com.spotify.i18n.locales.common.LocaleAffinityBiCalculator;
+import com.spotify.i18n.locales.common.LocaleAffinityJoiner;
+import com.spotify.i18n.locales.common.model.LocaleAffinity;
+import com.spotify.i18n.locales.common.model.LocaleAffinityJoinedPair;
+import com.spotify.i18n.locales.utils.available.AvailableLocalesUtils;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class LocaleAffinityJoinerBaseImplTest {
+
+  private static final LocaleAffinityBiCalculator BI_CALCULATOR =
+      LocaleAffinityBiCalculatorBaseImpl.builder().build();
+
+  private static final List<String> ORIGIN_LANGUAGE_TAGS =
+      List.of(
+          "bs-Cyrl-BA",
+          "de",
+          "da-SE",
+          "en-GB",
+          "es-BE",
+          "fr-SE",
+          "hr-BA",
+          "it-CH",
+          "ja-IT",
+          "nl-BE",
+          "no-SE",
+          "nn-DK",
+          "zh-Hans-US",
+          "zh-HK");
+
+  private static final List<String> TARGET_LANGUAGE_TAGS =
+      List.of(
+          "bs-Latn",
+          "ca",
+          "de-AT",
+          "en-JP",
+          "en-SE",
+          "fr-BE-u-ca-gregorian",
+          "fr-CA",
+          "gsw-CH",
+          "hr-MK",
+          "ja@calendar=buddhist",
+          "nb-FI",
+          "nl-ZA",
+          "pt-US",
+          "zh-CN");
+
+  @Test
+  void whenBuildingWithNoneMinimumAffinity_buildFails() {
+    IllegalStateException thrown =
+        assertThrows(
+            IllegalStateException.class,
+            () ->
+                LocaleAffinityJoinerBaseImpl.builder()
+                    .minimumAffinity(LocaleAffinity.NONE)
+                    .build());
+
+    assertEquals(
+        "The minimum affinity cannot be NONE, as it would result in a cross join.",
+        thrown.getMessage());
+  }
+
+  @Test
+  void whenBuildingWithDefaults_minimumAffinityIsLow() {
+    assertEquals(
+        LocaleAffinity.LOW, LocaleAffinityJoinerBaseImpl.builder().build().minimumAffinity());
+  }
+
+  @Test
+  void whenJoiningEmptyOrInvalidDatasets_returnsNoPairs() {
+    final LocaleAffinityJoiner joiner = LocaleAffinityJoinerBaseImpl.builder().build();
+
+    assertThat(
+        joiner.join(Collections.emptyList(), TARGET_LANGUAGE_TAGS).collect(Collectors.toList()),
+        empty());
+    assertThat(
+        joiner
+            .join(Arrays.asList(null, "", "  ", "ok-junk"), TARGET_LANGUAGE_TAGS)
+            .collect(Collectors.toList()),
+        empty());
+  }
+
+  @Test
+  void whenJoiningWithDuplicates_returnsDistinctPairs() {
+    final LocaleAffinityJoiner joiner = LocaleAffinityJoinerBaseImpl.builder().build();
+
+    assertThat(
+        joiner
+            .join(List.of("de", "de", "de-DE"), List.of("de-AT", "de-AT"))
+            .collect(Collectors.toList()),
+        containsInAnyOrder(
+            pair("de", "de-AT", LocaleAffinity.SAME), pair("de-DE", "de-AT", LocaleAffinity.SAME)));
+  }
+
+  @ParameterizedTest
+  @EnumSource(
+      value = LocaleAffinity.class,
+      mode = EnumSource.Mode.EXCLUDE,
+      names = {"NONE"})
+  void whenJoining_returnsSamePairsAsNestedLoopOverBiCalculator(
+      final LocaleAffinity minimumAffinity) {
+    final LocaleAffinityJoiner joiner =
+        LocaleAffinityJoinerBaseImpl.builder().minimumAffinity(minimumAffinity).build();
+
+    assertThat(
+        joiner.join(ORIGIN_LANGUAGE_TAGS, TARGET_LANGUAGE_TAGS).collect(Collectors.toList()),
+        containsInAnyOrder(
+            nestedLoopJoin(ORIGIN_LANGUAGE_TAGS, TARGET_LANGUAGE_TAGS, minimumAffinity).toArray()));
+  }
+
+  @Test
+  void whenJoiningCldrLocales_returnsSamePairsAsNestedLoopOverBiCalculator() {
+    final List<String> languageTags =
+        AvailableLocalesUtils.getCldrLocales().stream()
+            .map(ULocale::toLanguageTag)
+            .sorted()
+            .collect(Collectors.toList());
+    final List<String> originLanguageTags = everyNth(languageTags, 3, 0);
+    final List<String> targetLanguageTags = everyNth(languageTags, 3, 1);
+    final LocaleAffinityJoiner joiner = LocaleAffinityJoinerBaseImpl.builder().build();
+
+    assertEquals(
+        Set.copyOf(nestedLoopJoin(originLanguageTags, targetLanguageTags, LocaleAffinity.LOW)),
+        joiner.join(originLanguageTags, targetLanguageTags).parallel().collect(Collectors.toSet()));
+  }
+
+  private static List<LocaleAffinityJoinedPair> nestedLoopJoin(
+      final List<String> originLanguageTags,
+      final List<String> targetLanguageTags,
+      final LocaleAffinity minimumAffinity) {
+    final List<LocaleAffinityJoinedPair> pairs = new ArrayList<>();
+    for (String origin : originLanguageTags) {
+      for (String target : targetLanguageTags) {
+        final LocaleAffinity affinity = BI_CALCULATOR.calculate(origin, target).affinity();
+        if (affinity.compareTo(minimumAffinity) >= 0) {
+          pairs.add(pair(origin, target, affinity));
+        }
+      }
+    }
+    return pairs;
+  }
+
+  private static List<String> everyNth(final List<String> values, final int n, final int offset) {
+    return Stream.iterate(offset, i -> i < values.size(), i -> i + n)
+        .map(values::get)
+        .collect(Collectors.toList());
+  }
+
+  private static LocaleAffinityJoinedPair pair(
+      final String origin, final String target, final LocaleAffinity affinity) {
+    return LocaleAffinityJoinedPair.builder()
+        .originLanguageTag(origin)
+        .targetLanguageTag(target)
+        .affinity(affinity)
+        .build();
+  }
+}
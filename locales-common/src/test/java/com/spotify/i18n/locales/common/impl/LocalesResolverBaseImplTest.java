@@ -21,15 +21,24 @@
 package com.spotify.i18n.locales.common.impl;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import com.ibm.icu.util.LocaleMatcher;
+import com.ibm.icu.util.ULocale;
+import com.spotify.i18n.locales.common.InstrumentedLocalesResolver;
 import com.spotify.i18n.locales.common.LocalesResolver;
+import com.spotify.i18n.locales.common.model.ResolutionStatistics;
 import com.spotify.i18n.locales.common.model.ResolvedLocale;
 import com.spotify.i18n.locales.common.model.SupportedLocale;
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.List;
+import java.util.Map;
+import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -314,6 +323,25 @@ class LocalesResolverBaseImplTest {
     assertThat(resolver.resolve(givenLanguageTag), is(expectedResolvedLocale));
   }
 
+  @ParameterizedTest
+  @MethodSource("whenResolvingEdgeCaseLocales_returnsExpectedLocale")
+  public void whenResolvingCharSequenceOrBytes_returnsSameLocaleAsForString(
+      final String givenLanguageTag,
+      final String expectedLanguageTagForTranslations,
+      final List<String> expectedFallbackLanguageTagsForTranslations,
+      final String expectedLanguageTagForFormatting) {
+    LocalesResolver resolver =
+        LocalesResolverBaseImpl.builder()
+            .supportedLocales(SUPPORTED_LOCALES)
+            .defaultResolvedLocale(DEFAULT_LOCALE)
+            .build();
+
+    final ResolvedLocale expected = resolver.resolve(givenLanguageTag);
+    final byte[] bytes = ("," + givenLanguageTag + ",").getBytes(StandardCharsets.US_ASCII);
+    assertThat(resolver.resolve(new StringBuilder(givenLanguageTag)), is(expected));
+    assertThat(resolver.resolve(bytes, 1, givenLanguageTag.length()), is(expected));
+  }
+
   static Stream<Arguments> whenResolvingEdgeCaseLocales_returnsExpectedLocale() {
     return Stream.of(
         Arguments.of("en-LK", "en-GB", List.of("en"), "en-GB"),
@@ -328,6 +356,78 @@ class LocalesResolverBaseImplTest {
         Arguments.of("sr-XK", "sr-Latn", Collections.emptyList(), "sr-Latn-XK"));
   }
 
+  @ParameterizedTest
+  @MethodSource
+  public void whenResolvingLocaleForFormatting_tiesAreBrokenAsInTheRelatedLocalesOrder(
+      final Set<String> supportedLanguageTags,
+      final String defaultLanguageTag,
+      final String givenLanguageTag,
+      final ResolvedLocale expectedResolvedLocale) {
+    LocalesResolver resolver =
+        LocalesResolverBaseImpl.builder()
+            .supportedLocales(
+                supportedLanguageTags.stream()
+                    .map(SupportedLocale::fromLanguageTag)
+                    .collect(Collectors.toSet()))
+            .defaultResolvedLocale(
+                ResolvedLocale.fromLanguageTags(defaultLanguageTag, defaultLanguageTag))
+            .build();
+
+    assertThat(resolver.resolve(givenLanguageTag), is(expectedResolvedLocale));
+  }
+
+  static Stream<Arguments>
+      whenResolvingLocaleForFormatting_tiesAreBrokenAsInTheRelatedLocalesOrder() {
+    return Stream.of(
+        Arguments.of(
+            Set.of("sr-Latn", "en"),
+            "en",
+            "sr",
+            ResolvedLocale.fromLanguageTags("sr-Latn", "sr-Latn")),
+        Arguments.of(
+            Set.of("sr-Latn", "en"),
+            "en",
+            "*-RS",
+            ResolvedLocale.fromLanguageTags("sr-Latn", "sr-Latn")),
+        Arguments.of(
+            Set.of("de-CH", "fr-CH", "it"),
+            "de-CH",
+            "es-419",
+            ResolvedLocale.fromLanguageTags("de-CH", "de")),
+        Arguments.of(
+            Set.of("zh-Hans", "en"),
+            "en",
+            "yue",
+            ResolvedLocale.fromLanguageTags("zh-Hans", "zh-Hans")));
+  }
+
+  @Test
+  public void whenResolvingSeveralTimes_preparedMatchersAndMapsAreReused() {
+    LocalesResolverBaseImpl resolver =
+        (LocalesResolverBaseImpl)
+            LocalesResolverBaseImpl.builder()
+                .supportedLocales(SUPPORTED_LOCALES)
+                .defaultResolvedLocale(DEFAULT_LOCALE)
+                .build();
+
+    final Map<ULocale, Set<ULocale>> supportedLocalesMap = resolver.supportedLocalesMap();
+    final LocaleMatcher localeMatcherForTranslations = resolver.localeMatcherForTranslations();
+    final Map<ULocale, LocaleMatcher> localeMatchersForFormatting =
+        resolver.localeMatchersForFormatting();
+    final Map<ULocale, List<ULocale>> localeForTranslationsFallbacks =
+        resolver.localeForTranslationsFallbacks();
+
+    resolver.resolve("fr-CA,fr;q=0.8");
+    resolver.resolve("ja-GB");
+    resolver.resolve("*-CH");
+
+    assertThat(resolver.supportedLocalesMap(), sameInstance(supportedLocalesMap));
+    assertThat(resolver.localeMatcherForTranslations(), sameInstance(localeMatcherForTranslations));
+    assertThat(resolver.localeMatchersForFormatting(), sameInstance(localeMatchersForFormatting));
+    assertThat(
+        resolver.localeForTranslationsFallbacks(), sameInstance(localeForTranslationsFallbacks));
+  }
+
   @Test
   public void whenCldrAncestorLocalesAreUnsupported_theyAreNotPresentAsFallbacks() {
     LocalesResolver resolver =
@@ -349,4 +449,92 @@ class LocalesResolverBaseImplTest {
             "es-419");
     assertThat(resolver.resolve(localeToResolve), is(expectedResolvedLocale));
   }
+
+  @Test
+  public void whenResolvingWildcardRanges_extendedRangesAreComputedOnceOnFirstUse() {
+    LocalesResolverBaseImpl resolver =
+        (LocalesResolverBaseImpl)
+            LocalesResolverBaseImpl.builder()
+                .supportedLocales(
+                    Set.of("en", "de", "fr", "it", "zh-Hant").stream()
+                        .map(SupportedLocale::fromLanguageTag)
+                        .collect(Collectors.toSet()))
+                .defaultResolvedLocale(DEFAULT_LOCALE)
+                .build();
+
+    // Nothing is extended at build time
+    assertThat(resolver.wildcardRangeExpansions().size(), is(0L));
+
+    final ResolvedLocale resolvedLocale = resolver.resolve("*-CH,*-Hant-HK;q=0.5,*-ZZ;q=0.1");
+    final List<String> extendedRanges = resolver.wildcardRangeExpansions().getIfPresent("*-ch");
+    assertThat(extendedRanges, containsInAnyOrder("de-ch", "en-ch", "fr-ch", "it-ch"));
+    assertThat(
+        resolver.wildcardRangeExpansions().getIfPresent("*-hant-hk"), is(List.of("zh-hant-hk")));
+    assertThat(resolver.wildcardRangeExpansions().getIfPresent("*-zz"), is(List.of()));
+
+    // Extended ranges are reused by subsequent resolutions
+    assertThat(resolver.resolve("*-CH,*-Hant-HK;q=0.5,*-ZZ;q=0.1"), is(resolvedLocale));
+    assertThat(
+        resolver.wildcardRangeExpansions().getIfPresent("*-ch"), sameInstance(extendedRanges));
+  }
+
+  @Test
+  public void whenMitigatingUnknownLanguageRangeSeveralTimes_resultIsShared() {
+    final Optional<String> mitigated =
+        LocalesResolverBaseImpl.getMitigatedUnknownLanguageRange("mo-md");
+    assertThat(mitigated.isPresent(), is(true));
+    assertThat(
+        LocalesResolverBaseImpl.getMitigatedUnknownLanguageRange("mo-md").get(),
+        sameInstance(mitigated.get()));
+  }
+
+  @Test
+  public void whenMitigatingUnknownLanguageRangeWithoutMatch_emptyResultIsCached() {
+    assertThat(
+        LocalesResolverBaseImpl.getMitigatedUnknownLanguageRange("zxx"), is(Optional.empty()));
+    assertThat(
+        LocalesResolverBaseImpl.getMitigatedUnknownLanguageRange("zxx"), is(Optional.empty()));
+  }
+
+  @Test
+  public void whenResolving_resolutionPassesAreCounted() {
+    InstrumentedLocalesResolver resolver =
+        LocalesResolverBaseImpl.builder()
+            .supportedLocales(
+                Set.of("en", "en-GB", "fr").stream()
+                    .map(SupportedLocale::fromLanguageTag)
+                    .collect(Collectors.toSet()))
+            .defaultResolvedLocale(DEFAULT_LOCALE)
+            .build();
+
+    // Matched by the first pass
+    assertThat(resolver.resolve("fr-FR"), is(ResolvedLocale.fromLanguageTags("fr", "fr-FR")));
+    // Matched by the second pass, fully run on first use of the overridden range en-gb
+    assertThat(
+        resolver.resolve("ja-GB"),
+        is(ResolvedLocale.fromLanguageTags("en-GB", List.of("en"), "en-GB")));
+    // Matched by the second pass, answered from the cache for the overridden range en-gb
+    assertThat(
+        resolver.resolve("ko-GB"),
+        is(ResolvedLocale.fromLanguageTags("en-GB", List.of("en"), "en-GB")));
+    // Matched by the second pass, fully run as the overridden ranges differ
+    assertThat(
+        resolver.resolve("ja-GB,ko-US"),
+        is(ResolvedLocale.fromLanguageTags("en-GB", List.of("en"), "en-GB")));
+    // Second pass skipped, as no range could be parsed
+    assertThat(resolver.resolve(";;;"), is(DEFAULT_LOCALE));
+    // No pass at all
+    assertThat(resolver.resolve(""), is(DEFAULT_LOCALE));
+
+    assertThat(
+        resolver.stats(),
+        is(
+            ResolutionStatistics.builder()
+                .firstPassCount(5)
+                .secondPassSkippedCount(1)
+                .secondPassLookupCount(1)
+                .secondPassCount(2)
+                .defaultResolvedLocaleCount(2)
+                .build()));
+  }
 }
@@ -0,0 +1,165 @@
+/*-
+ * -\-\-
+ * locales-common
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.i18n.locales.common.impl;
+
+import static com.spotify.i18n.locales.common.model.LocaleAffinity.HIGH;
+import static com.spotify.i18n.locales.common.model.LocaleAffinity.LOW;
+import static com.spotify.i18n.locales.common.model.LocaleAffinity.MUTUALLY_INTELLIGIBLE;
+import static com.spotify.i18n.locales.common.model.LocaleAffinity.NONE;
+import static com.spotify.i18n.locales.common.model.LocaleAffinity.SAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ibm.icu.util.ULocale;
+import com.spotify.i18n.locales.common.model.LocaleAffinity;
+import com.spotify.i18n.locales.common.model.RelatedReferenceLocale;
+import com.spotify.i18n.locales.utils.available.AvailableLocalesUtils;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class ReferenceLocalesAffinityMatrixTest {
+
+  private static final List<ULocale> REFERENCE_LOCALES =
+      AvailableLocalesUtils.getReferenceLocales().stream()
+          .sorted(Comparator.comparing(ULocale::toLanguageTag))
+          .collect(Collectors.toList());
+
+  private static final List<ULocale> LOCALES = REFERENCE_LOCALES.subList(0, 30);
+
+  private static final LocaleAffinity[] AFFINITIES = LocaleAffinity.values();
+
+  /** Deterministic affinity, covering all possible values, for each cell of the test matrix */
+  private static LocaleAffinity expectedAffinity(final int againstIndex, final int candidateIndex) {
+    return AFFINITIES[(againstIndex * 7 + candidateIndex * 3) % AFFINITIES.length];
+  }
+
+  private static ReferenceLocalesAffinityMatrix generateTestMatrix() {
+    return ReferenceLocalesAffinityMatrix.generate(
+        LOCALES,
+        locale -> {
+          final int i = LOCALES.indexOf(locale);
+          return IntStream.range(0, LOCALES.size())
+              .filter(j -> expectedAffinity(i, j) != NONE)
+              .mapToObj(
+                  j ->
+                      RelatedReferenceLocale.builder()
+                          .referenceLocale(LOCALES.get(j))
+                          .affinity(expectedAffinity(i, j))
+                          .build())
+              .collect(Collectors.toList());
+        });
+  }
+
+  @Test
+  void whenGenerating_allCellsHoldExpectedAffinities() {
+    final ReferenceLocalesAffinityMatrix matrix = generateTestMatrix();
+    for (int i = 0; i < LOCALES.size(); i++) {
+      assertEquals(i, matrix.indexOf(LOCALES.get(i)));
+      for (int j = 0; j < LOCALES.size(); j++) {
+        assertEquals(expectedAffinity(i, j), matrix.get(i, j));
+      }
+    }
+    assertEquals(-1, matrix.indexOf(REFERENCE_LOCALES.get(30)));
+  }
+
+  @Test
+  void whenWritingAndReading_allCellsAreRetained() throws IOException {
+    final ReferenceLocalesAffinityMatrix matrix =
+        ReferenceLocalesAffinityMatrix.read(serialize(generateTestMatrix()), LOCALES).orElseThrow();
+    for (int i = 0; i < LOCALES.size(); i++) {
+      for (int j = 0; j < LOCALES.size(); j++) {
+        assertEquals(expectedAffinity(i, j), matrix.get(i, j));
+      }
+    }
+  }
+
+  @Test
+  void whenReadingForOtherReferenceLocales_returnsEmpty() throws IOException {
+    final ByteBuffer serialized = serialize(generateTestMatrix());
+    assertTrue(
+        ReferenceLocalesAffinityMatrix.read(serialized.duplicate(), LOCALES.subList(0, 29))
+            .isEmpty());
+    assertTrue(
+        ReferenceLocalesAffinityMatrix.read(
+                serialized.duplicate(),
+                LOCALES.stream()
+                    .sorted(Comparator.comparing(ULocale::toLanguageTag).reversed())
+                    .collect(Collectors.toList()))
+            .isEmpty());
+  }
+
+  @Test
+  void whenReadingInvalidContent_returnsEmpty() throws IOException {
+    final ByteBuffer serialized = serialize(generateTestMatrix());
+    assertTrue(
+        ReferenceLocalesAffinityMatrix.read(ByteBuffer.wrap(new byte[] {1, 2, 3}), LOCALES)
+            .isEmpty());
+    assertTrue(
+        ReferenceLocalesAffinityMatrix.read(
+                ByteBuffer.wrap(serialized.array(), 0, serialized.limit() - 1).slice(), LOCALES)
+            .isEmpty());
+  }
+
+  @Test
+  void classpathResourceMatchesRelatedReferenceLocales() {
+    final ReferenceLocalesAffinityMatrix matrix =
+        ReferenceLocalesAffinityMatrix.readFromResource(REFERENCE_LOCALES).orElseThrow();
+
+    // We check every 10th row of the matrix, to keep this test reasonably fast
+    for (int i = 0; i < REFERENCE_LOCALES.size(); i += 10) {
+      final ULocale referenceLocale = REFERENCE_LOCALES.get(i);
+      assertEquals(i, matrix.indexOf(referenceLocale));
+      final Map<ULocale, LocaleAffinity> expected =
+          ReferenceLocalesCalculatorBaseImplTest.REFERENCE_LOCALES_CALCULATOR
+              .calculateRelatedReferenceLocales(referenceLocale.toLanguageTag())
+              .stream()
+              .collect(
+                  Collectors.toMap(
+                      RelatedReferenceLocale::referenceLocale, RelatedReferenceLocale::affinity));
+      for (int j = 0; j < REFERENCE_LOCALES.size(); j++) {
+        assertEquals(
+            expected.getOrDefault(REFERENCE_LOCALES.get(j), NONE),
+            matrix.get(i, j),
+            referenceLocale + " / " + REFERENCE_LOCALES.get(j));
+      }
+    }
+  }
+
+  @Test
+  void allAffinitiesFitInCell() {
+    assertEquals(List.of(NONE, LOW, HIGH, MUTUALLY_INTELLIGIBLE, SAME), List.of(AFFINITIES));
+  }
+
+  private static ByteBuffer serialize(final ReferenceLocalesAffinityMatrix matrix)
+      throws IOException {
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    matrix.writeTo(Channels.newChannel(outputStream));
+    return ByteBuffer.wrap(outputStream.toByteArray());
+  }
+}
@@ -33,14 +33,17 @@ import static org.junit.jupiter.api.Assertions.*;
 import com.ibm.icu.util.ULocale;
 import com.ibm.icu.util.ULocale.Builder;
 import com.spotify.i18n.locales.common.LocaleAffinityBiCalculator;
+import com.spotify.i18n.locales.common.LocaleAffinityCalculator;
 import com.spotify.i18n.locales.common.ReferenceLocalesCalculator;
 import com.spotify.i18n.locales.common.model.LocaleAffinity;
 import com.spotify.i18n.locales.common.model.RelatedReferenceLocale;
 import com.spotify.i18n.locales.utils.available.AvailableLocalesUtils;
 import com.spotify.i18n.locales.utils.language.LanguageUtils;
+import com.spotify.i18n.locales.utils.languagetag.LanguageTagUtils;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Collectors;
 import java.util.stream.Stream;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
@@ -169,6 +172,111 @@ class ReferenceLocalesCalculatorBaseImplTest {
     }
   }
 
+  @ParameterizedTest
+  @MethodSource
+  public void whenCalculatingRelatedReferenceLocales_matchesAffinityAgainstAllReferenceLocales(
+      final String languageTag) {
+    final LocaleAffinityCalculator affinityCalculator =
+        LocaleAffinityCalculatorBaseImpl.builder()
+            .againstLocales(
+                LanguageTagUtils.parse(languageTag).stream().collect(Collectors.toSet()))
+            .build();
+    final List<RelatedReferenceLocale> expected =
+        AvailableLocalesUtils.getReferenceLocales().stream()
+            .map(
+                refLocale ->
+                    RelatedReferenceLocale.builder()
+                        .referenceLocale(refLocale)
+                        .affinity(
+                            affinityCalculator.calculate(refLocale.toLanguageTag()).affinity())
+                        .build())
+            .filter(refLocale -> refLocale.affinity() != NONE)
+            .collect(Collectors.toList());
+
+    assertEquals(
+        expected, REFERENCE_LOCALES_CALCULATOR.calculateRelatedReferenceLocales(languageTag));
+  }
+
+  public static Stream<String>
+      whenCalculatingRelatedReferenceLocales_matchesAffinityAgainstAllReferenceLocales() {
+    return Stream.concat(
+        AvailableLocalesUtils.getCldrLocales().stream().map(ULocale::toLanguageTag),
+        Stream.of(
+            "bs-Cyrl-BA",
+            "gsw-FR",
+            "hi-Latn",
+            "hr-BA",
+            "iw",
+            "in-ID",
+            "mo",
+            "no-SE",
+            "sh",
+            "sr-ME",
+            "tl",
+            "zh-TW",
+            "zh-Latn",
+            "ZH_us",
+            "en-Cyrl",
+            "es-Arab",
+            "ja-Kore",
+            "xx",
+            "tlh"));
+  }
+
+  @Test
+  public void calculateBiAffinity_matchesAffinityOfRelatedReferenceLocales() {
+    final List<String> languageTags =
+        List.of(
+            "bs-Cyrl-BA",
+            "bs-Latn",
+            "ca",
+            "da-SE",
+            "de",
+            "de-AT",
+            "en-GB",
+            "en-SE",
+            "es-BE",
+            "fr-CA",
+            "gsw-CH",
+            "hr-BA",
+            "hr-MK",
+            "it-CH",
+            "ja@calendar=buddhist",
+            "nb-FI",
+            "nl-ZA",
+            "nn-DK",
+            "no-SE",
+            "pt-BR",
+            "sr-Latn",
+            "sr-ME",
+            "sv-FI",
+            "zh-CN",
+            "zh-Hant-US",
+            "zh-TW",
+            "xx",
+            "");
+    for (String languageTag1 : languageTags) {
+      final List<RelatedReferenceLocale> relatedReferenceLocales =
+          REFERENCE_LOCALES_CALCULATOR.calculateRelatedReferenceLocales(languageTag1);
+      for (String languageTag2 : languageTags) {
+        final LocaleAffinity expected =
+            REFERENCE_LOCALES_CALCULATOR
+                .calculateBestMatchingReferenceLocale(languageTag2)
+                .flatMap(
+                    referenceLocale ->
+                        relatedReferenceLocales.stream()
+                            .filter(rrl -> isSameLocale(rrl.referenceLocale(), referenceLocale))
+                            .findFirst())
+                .map(RelatedReferenceLocale::affinity)
+                .orElse(NONE);
+        assertEquals(
+            expected,
+            LOCALE_AFFINITY_BI_CALCULATOR.calculate(languageTag1, languageTag2).affinity(),
+            languageTag1 + " / " + languageTag2);
+      }
+    }
+  }
+
   @ParameterizedTest
   @MethodSource
   public void whenCalculatingRelatedReferenceLocales_returnsExpected(
@@ -0,0 +1,57 @@
+/*-
+ * -\-\-
+ * locales-common
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.i18n.locales.common.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.junit.jupiter.api.Test;
+
+class CacheStatisticsTest {
+
+  @Test
+  void whenBuildingWithMissingRequiredProperties_buildFails() {
+    IllegalStateException thrown =
+        assertThrows(IllegalStateException.class, () -> CacheStatistics.builder().build());
+
+    assertEquals(
+        "Missing required properties: hitCount missCount evictionCount", thrown.getMessage());
+  }
+
+  @Test
+  void whenBuildingWithNegativeCounts_buildFails() {
+    IllegalStateException thrown =
+        assertThrows(
+            IllegalStateException.class,
+            () -> CacheStatistics.builder().hitCount(-1).missCount(0).evictionCount(0).build());
+
+    assertEquals("Cache statistics counts cannot be negative.", thrown.getMessage());
+  }
+
+  @Test
+  void whenCalculatingHitRate_returnedValueMatches() {
+    assertEquals(
+        1.0, CacheStatistics.builder().hitCount(0).missCount(0).evictionCount(0).build().hitRate());
+    assertEquals(
+        0.75,
+        CacheStatistics.builder().hitCount(3).missCount(1).evictionCount(0).build().hitRate());
+  }
+}
@@ -0,0 +1,62 @@
+/*-
+ * -\-\-
+ * locales-common
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.i18n.locales.common.model;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import org.junit.jupiter.api.Test;
+
+class LocaleAffinityJoinedPairTest {
+
+  @Test
+  void whenBuildingWithMissingRequiredProperties_buildFails() {
+    IllegalStateException thrown =
+        assertThrows(IllegalStateException.class, () -> LocaleAffinityJoinedPair.builder().build());
+
+    assertEquals(
+        "Missing required properties: originLanguageTag targetLanguageTag affinity",
+        thrown.getMessage());
+  }
+
+  @Test
+  void whenBuildingWithNoneAffinity_buildFails() {
+    IllegalStateException thrown =
+        assertThrows(
+            IllegalStateException.class,
+            () ->
+                LocaleAffinityJoinedPair.builder()
+                    .originLanguageTag("ja")
+                    .targetLanguageTag("pt-US")
+                    .affinity(LocaleAffinity.NONE)
+                    .build());
+
+    assertEquals("Language tags with no affinity cannot be joined: ja, pt-US", thrown.getMessage());
+  }
+
+  @Test
+  void whenBuildingWithValidParameters_buildSucceeds() {
+    LocaleAffinityJoinedPair.builder()
+        .originLanguageTag("de")
+        .targetLanguageTag("gsw-CH")
+        .affinity(LocaleAffinity.MUTUALLY_INTELLIGIBLE)
+        .build();
+  }
+}
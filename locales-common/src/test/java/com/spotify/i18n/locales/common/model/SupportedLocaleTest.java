@@ -22,6 +22,7 @@ package com.spotify.i18n.locales.common.model;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
@@ -152,6 +153,21 @@ class SupportedLocaleTest {
         .build();
   }
 
+  @Test
+  void whenBuilding_relatedLocalesForFormattingAreKeptAsGiven() {
+    Set<ULocale> related =
+        Set.of("fr", "fr-BE", "fr-CA").stream()
+            .map(ULocale::forLanguageTag)
+            .collect(Collectors.toSet());
+    SupportedLocale supportedLocale =
+        SupportedLocale.builder()
+            .localeForTranslations(ULocale.forLanguageTag("fr"))
+            .relatedLocalesForFormatting(related)
+            .build();
+
+    assertThat(supportedLocale.relatedLocalesForFormatting(), sameInstance(related));
+  }
+
   @Test
   void whenGeneratingFromAnUnexpectedLanguageTag_buildFails() {
     NullPointerException npe =
@@ -0,0 +1,345 @@
+/*-
+ * -\-\-
+ * locales-utils
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.i18n.locales.utils.acceptlanguage;
+
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale.LanguageRange;
+import java.util.Optional;
+import java.util.stream.Collectors;
+
+/**
+ * A hand-written, single-pass parser of accept-language values, which produces the exact same
+ * output as sanitizing the value with regular expressions and parsing it using {@link
+ * LanguageRange#parse(String)}, without the intermediate String copies.
+ *
+ * <p>The parser only handles the syntax that is commonly encountered in accept-language values.
+ * When it encounters anything else (non-ASCII characters, uncommon weight notations, ...), it
+ * returns an empty {@link Optional}, and the caller is expected to fall back to the regular
+ * expressions based implementation.
+ *
+ * @see AcceptLanguageUtils
+ * @author Eric Fjøsne
+ */
+class AcceptLanguageParser {
+
+  /** Maximum number of ranges for which equivalent ranges are cached */
+  private static final long MAXIMUM_CACHED_EQUIVALENT_RANGES = 10_000L;
+
+  /**
+   * Cache of the ranges that {@link LanguageRange#parse(String)} generates for a given range,
+   * including the range itself and its IANA equivalents, in the order in which they are returned.
+   */
+  private static final Cache<String, List<String>> EQUIVALENT_RANGES =
+      CacheBuilder.newBuilder().maximumSize(MAXIMUM_CACHED_EQUIVALENT_RANGES).build();
+
+  /** Maximum length of a language range subtag */
+  private static final int MAX_SUBTAG_LENGTH = 8;
+
+  /** Maximum number of digits for which a weight can be calculated exactly using a long */
+  private static final int MAX_EXACT_WEIGHT_DIGITS = 15;
+
+  private static final double[] POWERS_OF_TEN = {
+    1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11, 1e12, 1e13, 1e14, 1e15
+  };
+
+  private static final Comparator<LanguageRange> BY_DESCENDING_WEIGHT =
+      Comparator.comparingDouble(LanguageRange::getWeight).reversed();
+
+  /** Characters identifying the start of a locale extension */
+  private static final char[] EXTENSION_MARKER = {'-', 'u', '-'};
+
+  /** Possible outcomes of parsing a single accept-language entry */
+  private enum EntryParsingResult {
+    /** The entry was parsed successfully */
+    PARSED,
+    /** The entry is invalid, which invalidates the whole accept-language value */
+    INVALID,
+    /** The entry contains syntax that this parser doesn't handle */
+    UNHANDLED
+  }
+
+  private AcceptLanguageParser() {}
+
+  /**
+   * Returns the list of normalized accept-language entries, for a given non-null accept-language
+   * value, or an empty {@link Optional} if the value contains syntax that this parser doesn't
+   * handle.
+   *
+   * @param acceptLanguage the accept-language value
+   * @return the optional list of normalized {@link LanguageRange}
+   */
+  static Optional<List<LanguageRange>> parse(final CharSequence acceptLanguage) {
+    // An "@" expands into "-u-", hence the buffer size.
+    final char[] buffer = new char[acceptLanguage.length() * 3];
+    final int sanitizedLength = sanitize(acceptLanguage, buffer);
+    if (sanitizedLength < 0) {
+      return Optional.empty();
+    }
+
+    // Trailing empty entries are ignored, just like String#split does.
+    int end = sanitizedLength;
+    while (end > 0 && buffer[end - 1] == ',') {
+      end--;
+    }
+
+    final List<LanguageRange> languageRanges = new ArrayList<>();
+    int start = 0;
+    while (start < end) {
+      int separator = start;
+      while (separator < end && buffer[separator] != ',') {
+        separator++;
+      }
+      switch (parseEntry(buffer, start, separator, languageRanges)) {
+        case INVALID:
+          // A single invalid entry invalidates the whole value
+          return Optional.of(new ArrayList<>());
+        case UNHANDLED:
+          return Optional.empty();
+        default:
+          start = separator + 1;
+      }
+    }
+    return Optional.of(sortedByDescendingWeight(languageRanges));
+  }
+
+  /**
+   * Writes the sanitized accept-language value into the given buffer, in a single pass: spaces are
+   * removed, "@" is replaced by "-u-", "_" by "-" and locale extensions are removed.
+   *
+   * @return the sanitized length, or -1 if the value contains unhandled characters
+   */
+  private static int sanitize(final CharSequence acceptLanguage, final char[] buffer) {
+    int length = 0;
+    boolean skippingExtension = false;
+    for (int i = 0; i < acceptLanguage.length(); i++) {
+      final char c = acceptLanguage.charAt(i);
+      // Non-ASCII characters might change when lower-cased, and colons might be part of a header
+      // name prefix.
+      if (c > 0x7F || c == ':') {
+        return -1;
+      }
+      if (skippingExtension) {
+        if (c != ',' && c != ';') {
+          continue;
+        }
+        skippingExtension = false;
+      }
+      if (c == ' ') {
+        continue;
+      }
+      final int replacementLength = c == '@' ? EXTENSION_MARKER.length : 1;
+      for (int j = 0; j < replacementLength; j++) {
+        buffer[length++] = c == '@' ? EXTENSION_MARKER[j] : (c == '_' ? '-' : c);
+        // Remove all locale extensions (as per BCP47), up to the next weight or entry.
+        if (endsWithExtensionMarker(buffer, length)) {
+          length -= EXTENSION_MARKER.length;
+          skippingExtension = true;
+          break;
+        }
+      }
+    }
+    return length;
+  }
+
+  private static boolean endsWithExtensionMarker(final char[] buffer, final int length) {
+    return length >= 3
+        && buffer[length - 3] == EXTENSION_MARKER[0]
+        && buffer[length - 2] == EXTENSION_MARKER[1]
+        && buffer[length - 1] == EXTENSION_MARKER[2];
+  }
+
+  /**
+   * Parses a single sanitized accept-language entry, and appends the resulting language ranges to
+   * the given list, unless already present.
+   *
+   * @return the entry parsing outcome
+   */
+  private static EntryParsingResult parseEntry(
+      final char[] buffer, final int start, final int end, final List<LanguageRange> ranges) {
+    int weightIndex = -1;
+    for (int i = start; i + 2 < end; i++) {
+      if (buffer[i] == ';' && (buffer[i + 1] | 0x20) == 'q' && buffer[i + 2] == '=') {
+        weightIndex = i;
+        break;
+      }
+    }
+
+    final int rangeEnd = weightIndex < 0 ? end : weightIndex;
+    final double weight =
+        weightIndex < 0
+            ? LanguageRange.MAX_WEIGHT
+            : parseWeight(buffer, weightIndex + 3, end, buffer[weightIndex + 1] == 'q');
+    if (Double.isNaN(weight)) {
+      return EntryParsingResult.UNHANDLED;
+    }
+    if (weight < LanguageRange.MIN_WEIGHT
+        || weight > LanguageRange.MAX_WEIGHT
+        || !isWellFormedRange(buffer, start, rangeEnd)) {
+      return EntryParsingResult.INVALID;
+    }
+
+    final String range = new String(buffer, start, rangeEnd - start);
+    if (!containsRange(ranges, range)) {
+      // The range and its equivalents are only added if the range wasn't already present.
+      for (String equivalentRange : getEquivalentRanges(range)) {
+        if (!containsRange(ranges, equivalentRange)) {
+          ranges.add(new LanguageRange(equivalentRange, weight));
+        }
+      }
+    }
+    return EntryParsingResult.PARSED;
+  }
+
+  /**
+   * Returns the weight written in the given buffer range. Returns an out of bounds weight for
+   * values that cannot be parsed, and NaN for values using a syntax that this parser doesn't
+   * handle.
+   */
+  private static double parseWeight(
+      final char[] buffer, final int start, final int end, final boolean isLowerCaseQ) {
+    if (start < end && buffer[start] == '-') {
+      // Negative q values are not authorized ... but we receive them and therefore should handle
+      // them. They are considered as zero, as long as they consist of digits and dots only.
+      if (isLowerCaseQ && start + 1 < end && isDigitsAndDots(buffer, start + 1, end)) {
+        return 0.0;
+      }
+      return Double.NaN;
+    }
+    if (!isDigitsAndDots(buffer, start, end)) {
+      return Double.NaN;
+    }
+
+    long mantissa = 0;
+    int digits = 0;
+    int fractionDigits = -1;
+    for (int i = start; i < end; i++) {
+      if (buffer[i] == '.') {
+        if (fractionDigits >= 0) {
+          return -1.0;
+        }
+        fractionDigits = 0;
+      } else {
+        mantissa = mantissa * 10 + (buffer[i] - '0');
+        digits++;
+        if (fractionDigits >= 0) {
+          fractionDigits++;
+        }
+      }
+    }
+    if (digits == 0) {
+      return -1.0;
+    }
+    if (digits > MAX_EXACT_WEIGHT_DIGITS) {
+      return Double.parseDouble(new String(buffer, start, end - start));
+    }
+    // Both operands are exactly representable, so the division is correctly rounded, just like
+    // Double.parseDouble would be.
+    return fractionDigits <= 0 ? mantissa : mantissa / POWERS_OF_TEN[fractionDigits];
+  }
+
+  private static boolean isDigitsAndDots(final char[] buffer, final int start, final int end) {
+    for (int i = start; i < end; i++) {
+      final char c = buffer[i];
+      if (c != '.' && (c < '0' || c > '9')) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  /**
+   * Returns true if the given buffer range contains a well-formed language range, which it lower
+   * cases in place.
+   */
+  private static boolean isWellFormedRange(final char[] buffer, final int start, final int end) {
+    if (start == end || buffer[end - 1] == '-') {
+      return false;
+    }
+    int subtagStart = start;
+    for (int i = start; i <= end; i++) {
+      if (i < end && buffer[i] != '-') {
+        final char c = buffer[i];
+        if (c >= 'A' && c <= 'Z') {
+          buffer[i] = (char) (c + ('a' - 'A'));
+        }
+        continue;
+      }
+      if (!isWellFormedSubtag(buffer, subtagStart, i, subtagStart == start)) {
+        return false;
+      }
+      subtagStart = i + 1;
+    }
+    return true;
+  }
+
+  private static boolean isWellFormedSubtag(
+      final char[] buffer, final int start, final int end, final boolean isFirstSubtag) {
+    final int length = end - start;
+    if (length == 0 || length > MAX_SUBTAG_LENGTH) {
+      return false;
+    }
+    if (length == 1 && buffer[start] == '*') {
+      return true;
+    }
+    for (int i = start; i < end; i++) {
+      final char c = buffer[i];
+      if (!(c >= 'a' && c <= 'z') && (isFirstSubtag || c < '0' || c > '9')) {
+        return false;
+      }
+    }
+    return true;
+  }
+
+  private static boolean containsRange(final List<LanguageRange> ranges, final String range) {
+    for (int i = 0; i < ranges.size(); i++) {
+      if (ranges.get(i).getRange().equals(range)) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  private static List<String> getEquivalentRanges(final String range) {
+    return EQUIVALENT_RANGES
+        .asMap()
+        .computeIfAbsent(
+            range,
+            r ->
+                LanguageRange.parse(r).stream()
+                    .map(LanguageRange::getRange)
+                    .collect(Collectors.toUnmodifiableList()));
+  }
+
+  private static List<LanguageRange> sortedByDescendingWeight(final List<LanguageRange> ranges) {
+    for (int i = 1; i < ranges.size(); i++) {
+      if (ranges.get(i - 1).getWeight() < ranges.get(i).getWeight()) {
+        // The sort is stable, so entries with the same weight retain their given order.
+        ranges.sort(BY_DESCENDING_WEIGHT);
+        return ranges;
+      }
+    }
+    return ranges;
+  }
+}
@@ -20,6 +20,7 @@
 
 package com.spotify.i18n.locales.utils.acceptlanguage;
 
+import com.spotify.i18n.locales.utils.ascii.AsciiCharSequence;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
@@ -60,11 +61,41 @@ public class AcceptLanguageUtils {
    * @return Normalized accept-language value
    */
   public static String normalize(final String acceptLanguageValue) {
+    return normalize((CharSequence) acceptLanguageValue);
+  }
+
+  /**
+   * Returns the normalized accept-language value, for a given accept-language value held in a
+   * {@link CharSequence}, without copying it into a String first.
+   *
+   * <p>If provided value is empty, null or invalid, returns an empty String.
+   *
+   * @param acceptLanguageValue
+   * @return Normalized accept-language value
+   * @see #normalize(String)
+   */
+  public static String normalize(final CharSequence acceptLanguageValue) {
     return parse(acceptLanguageValue).stream()
         .map(LanguageRange::toString)
         .collect(Collectors.joining(","));
   }
 
+  /**
+   * Returns the normalized accept-language value, for a given accept-language value held in a range
+   * of a byte array of ASCII characters, without copying it into a String first.
+   *
+   * <p>If provided value is empty or invalid, returns an empty String.
+   *
+   * @param bytes the byte array
+   * @param offset the index of the first byte of the accept-language value
+   * @param length the number of bytes of the accept-language value
+   * @return Normalized accept-language value
+   * @see #normalize(String)
+   */
+  public static String normalize(final byte[] bytes, final int offset, final int length) {
+    return normalize(AsciiCharSequence.of(bytes, offset, length));
+  }
+
   /**
    * Returns the list of normalized accept-language entries, for a given accept-language value. By
    * normalized, we mean a value that has been sanitized from any invalid input, where each entry is
@@ -77,12 +108,56 @@ public class AcceptLanguageUtils {
    * @return List of normalized {@link LanguageRange}
    */
   public static List<LanguageRange> parse(final String acceptLanguageValue) {
+    return parse((CharSequence) acceptLanguageValue);
+  }
+
+  /**
+   * Returns the list of normalized accept-language entries, for a given accept-language value held
+   * in a {@link CharSequence}, without copying it into a String first.
+   *
+   * <p>If provided value is empty, null or invalid, returns an empty List.
+   *
+   * @param acceptLanguageValue
+   * @return List of normalized {@link LanguageRange}
+   * @see #parse(String)
+   */
+  public static List<LanguageRange> parse(final CharSequence acceptLanguageValue) {
     return Optional.ofNullable(acceptLanguageValue)
         .map(AcceptLanguageUtils::parseGivenValue)
         .orElse(Collections.emptyList());
   }
 
-  private static List<LanguageRange> parseGivenValue(final String acceptLanguage) {
+  /**
+   * Returns the list of normalized accept-language entries, for a given accept-language value held
+   * in a range of a byte array of ASCII characters, without copying it into a String first.
+   *
+   * <p>If provided value is empty or invalid, returns an empty List.
+   *
+   * @param bytes the byte array
+   * @param offset the index of the first byte of the accept-language value
+   * @param length the number of bytes of the accept-language value
+   * @return List of normalized {@link LanguageRange}
+   * @see #parse(String)
+   */
+  public static List<LanguageRange> parse(final byte[] bytes, final int offset, final int length) {
+    return parse(AsciiCharSequence.of(bytes, offset, length));
+  }
+
+  private static List<LanguageRange> parseGivenValue(final CharSequence acceptLanguage) {
+    // The hand-written parser handles the vast majority of values, and we fall back to regular
+    // expressions based sanitization for anything else, which requires a String.
+    return AcceptLanguageParser.parse(acceptLanguage)
+        .orElseGet(() -> parseWithRegularExpressions(acceptLanguage.toString()));
+  }
+
+  /**
+   * Returns the list of normalized accept-language entries, for a given accept-language value, by
+   * sanitizing it using regular expressions before parsing it with {@link LanguageRange#parse}.
+   *
+   * @param acceptLanguage the accept-language value
+   * @return List of normalized {@link LanguageRange}
+   */
+  static List<LanguageRange> parseWithRegularExpressions(final String acceptLanguage) {
     return Optional.ofNullable(acceptLanguage)
         .map(AcceptLanguageUtils::sanitizeAcceptLanguage)
         .filter(Predicate.not(String::isEmpty))
@@ -0,0 +1,84 @@
+/*-
+ * -\-\-
+ * locales-utils
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+package com.spotify.i18n.locales.utils.ascii;
+
+import com.google.common.base.Preconditions;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * A read-only {@link CharSequence} view over a range of a byte array holding ASCII characters, such
+ * as a raw HTTP header value. Each byte is read as a single character, without any copy or
+ * decoding.
+ *
+ * <p>Bytes outside of the ASCII range are read as ISO-8859-1 characters. The underlying byte array
+ * must not be modified while the view is in use.
+ *
+ * @author Eric Fjøsne
+ */
+public final class AsciiCharSequence implements CharSequence {
+
+  private final byte[] bytes;
+  private final int offset;
+  private final int length;
+
+  private AsciiCharSequence(final byte[] bytes, final int offset, final int length) {
+    this.bytes = bytes;
+    this.offset = offset;
+    this.length = length;
+  }
+
+  /**
+   * Returns a view over the given range of the given byte array.
+   *
+   * @param bytes the byte array
+   * @param offset the index of the first byte of the range
+   * @param length the number of bytes of the range
+   * @return the view over the range
+   * @throws NullPointerException if <code>bytes</code> is <code>null</code>
+   * @throws IndexOutOfBoundsException if the range is out of the bounds of the byte array
+   */
+  public static AsciiCharSequence of(final byte[] bytes, final int offset, final int length) {
+    Preconditions.checkNotNull(bytes);
+    Preconditions.checkPositionIndexes(offset, offset + length, bytes.length);
+    return new AsciiCharSequence(bytes, offset, length);
+  }
+
+  @Override
+  public int length() {
+    return length;
+  }
+
+  @Override
+  public char charAt(final int index) {
+    Preconditions.checkElementIndex(index, length);
+    return (char) (bytes[offset + index] & 0xFF);
+  }
+
+  @Override
+  public CharSequence subSequence(final int start, final int end) {
+    Preconditions.checkPositionIndexes(start, end, length);
+    return new AsciiCharSequence(bytes, offset + start, end - start);
+  }
+
+  @Override
+  public String toString() {
+    return new String(bytes, offset, length, StandardCharsets.ISO_8859_1);
+  }
+}
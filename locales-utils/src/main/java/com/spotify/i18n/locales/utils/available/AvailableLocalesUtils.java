@@ -27,10 +27,15 @@ import static com.spotify.i18n.locales.utils.hierarchy.LocalesHierarchyUtils.isL
 import static com.spotify.i18n.locales.utils.hierarchy.LocalesHierarchyUtils.isRootLocale;
 import static com.spotify.i18n.locales.utils.hierarchy.LocalesHierarchyUtils.isSameLocale;
 
+import com.google.common.collect.ImmutableSet;
 import com.ibm.icu.util.ULocale;
 import com.spotify.i18n.locales.utils.hierarchy.LocalesHierarchyUtils;
+import com.spotify.i18n.locales.utils.ids.LocaleSet;
+import com.spotify.i18n.locales.utils.internal.CldrDataSnapshot;
 import com.spotify.i18n.locales.utils.language.LanguageUtils;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.Comparator;
 import java.util.Optional;
 import java.util.Set;
 import java.util.stream.Collectors;
@@ -51,6 +56,10 @@ import java.util.stream.Stream;
  *       minimized locales.
  * </ul>
  *
+ * <p>All returned sets are immutable, and iterate in language tag order. When the precomputed CLDR
+ * data snapshot is available, they are {@link LocaleSet}s, which offer bitset-based membership
+ * checks and set operations. Each set is computed on first access only, out of its own data.
+ *
  * @author Eric Fjøsne
  */
 public class AvailableLocalesUtils {
@@ -58,58 +67,14 @@ public class AvailableLocalesUtils {
   // Outlier locale we don't want to encounter
   private static final ULocale EN_US_POSIX = ULocale.forLanguageTag("en-US-POSIX");
 
-  // Set containing all CLDR available locales, except the ROOT and en-US-POSIX
-  private static final Set<ULocale> CLDR_LOCALES =
-      Arrays.stream(ULocale.getAvailableLocales())
-          .filter(l -> !isRootLocale(l) && !isSameLocale(l, EN_US_POSIX))
-          .collect(Collectors.toSet());
-
-  // Set containing all written language locales. Languages which can only be written in a single
-  // script are identified using the language code only. The ones that can be written in several
-  // scripts are identified using both the language and script codes.
-  private static final Set<ULocale> WRITTEN_LANGUAGE_LOCALES =
-      CLDR_LOCALES.stream()
-          .filter(LocalesHierarchyUtils::isHighestAncestorLocale)
-          .map(
-              locale ->
-                  Optional.of(locale)
-                      .filter(l -> l.getScript().isEmpty())
-                      .filter(l -> isLanguageWrittenInSeveralScripts(l.getLanguage()))
-                      .map(ULocale::addLikelySubtags)
-                      .map(
-                          l ->
-                              new ULocale.Builder()
-                                  .setLanguage(l.getLanguage())
-                                  .setScript(l.getScript())
-                                  .build())
-                      .orElse(locale))
-          .collect(Collectors.toSet());
-
-  // Set containing all spoken language locales.
-  private static final Set<ULocale> SPOKEN_LANGUAGE_LOCALES =
-      Stream.concat(
-              // Locales consisting only of a language code, except the ones for Chinese.
-              CLDR_LOCALES.stream()
-                  .filter(locale -> locale.getScript().isEmpty() && locale.getCountry().isEmpty())
-                  .filter(locale -> !CHINESE.getLanguage().equals(locale.getLanguage())),
-              // We explicitly add Simplified and Traditional Chinese as zh-Hans and zh-Hant.
-              Stream.of(SIMPLIFIED_CHINESE, TRADITIONAL_CHINESE))
-          .collect(Collectors.toSet());
-
-  /**
-   * Set containing all reference locales, which are all CLDR available locales except the ROOT and
-   * en-US-POSIX, minimized.
-   */
-  private static final Set<ULocale> REFERENCE_LOCALES =
-      CLDR_LOCALES.stream().map(ULocale::minimizeSubtags).collect(Collectors.toUnmodifiableSet());
-
   /**
    * Returns a set containing all available CLDR {@link ULocale}, without the ROOT and en-US-POSIX.
    *
+   * @return an immutable set of the CLDR locales, iterating in language tag order
    * @see <a href="https://cldr.unicode.org/">Unicode CLDR Project</a>
    */
   public static Set<ULocale> getCldrLocales() {
-    return CLDR_LOCALES;
+    return CldrLocalesHolder.CLDR_LOCALES;
   }
 
   /**
@@ -125,9 +90,11 @@ public class AvailableLocalesUtils {
    *   <li>CLDR locales: zh, zh-Hans, zh-Hans-CN
    *   <li>Reduced to: zh
    * </ul>
+   *
+   * @return an immutable set of the reference locales, iterating in language tag order
    */
   public static Set<ULocale> getReferenceLocales() {
-    return REFERENCE_LOCALES;
+    return ReferenceLocalesHolder.REFERENCE_LOCALES;
   }
 
   /**
@@ -145,10 +112,11 @@ public class AvailableLocalesUtils {
    * the {@link LanguageUtils#getWrittenLanguageLocale(String)} helper method to retrieve the
    * written language associated with any given language tag.
    *
+   * @return an immutable set of the written language locales, iterating in language tag order
    * @see <a href="https://cldr.unicode.org/">Unicode CLDR Project</a>
    */
   public static Set<ULocale> getWrittenLanguageLocales() {
-    return WRITTEN_LANGUAGE_LOCALES;
+    return WrittenLanguageLocalesHolder.WRITTEN_LANGUAGE_LOCALES;
   }
 
   /**
@@ -166,9 +134,112 @@ public class AvailableLocalesUtils {
    * LanguageUtils#getSpokenLanguageLocale(String)} helper method to retrieve the spoken language
    * associated with any given language tag.
    *
+   * @return an immutable set of the spoken language locales, iterating in language tag order
    * @see <a href="https://cldr.unicode.org/">Unicode CLDR Project</a>
    */
   public static Set<ULocale> getSpokenLanguageLocales() {
-    return SPOKEN_LANGUAGE_LOCALES;
+    return SpokenLanguageLocalesHolder.SPOKEN_LANGUAGE_LOCALES;
+  }
+
+  // Each set is computed by its own holder class, on first access only, so that callers only pay
+  // for the sets they actually use. Sets are read from the precomputed snapshot, when available.
+  // Otherwise, they are computed out of ICU without building the locale identifier space.
+
+  /**
+   * Returns an immutable set of the given locales, iterating in language tag order, like {@link
+   * LocaleSet}s do.
+   */
+  private static Set<ULocale> toImmutableSet(final Collection<ULocale> locales) {
+    return locales.stream()
+        .sorted(Comparator.comparing(ULocale::toLanguageTag).thenComparing(ULocale::getName))
+        .collect(ImmutableSet.toImmutableSet());
+  }
+
+  /** Lazily initialized holder of the set of all CLDR available locales. */
+  private static final class CldrLocalesHolder {
+    private static final Set<ULocale> CLDR_LOCALES =
+        CldrDataSnapshot.get()
+            .<Set<ULocale>>map(snapshot -> LocaleSet.ofLocaleIds(snapshot.getCldrLocaleIds()))
+            .orElseGet(CldrLocalesHolder::compute);
+
+    // Set containing all CLDR available locales, except the ROOT and en-US-POSIX
+    private static Set<ULocale> compute() {
+      return toImmutableSet(
+          Arrays.stream(ULocale.getAvailableLocales())
+              .filter(l -> !isRootLocale(l) && !isSameLocale(l, EN_US_POSIX))
+              .collect(Collectors.toSet()));
+    }
+  }
+
+  /** Lazily initialized holder of the set of all written language locales. */
+  private static final class WrittenLanguageLocalesHolder {
+    private static final Set<ULocale> WRITTEN_LANGUAGE_LOCALES =
+        CldrDataSnapshot.get()
+            .<Set<ULocale>>map(
+                snapshot -> LocaleSet.ofLocaleIds(snapshot.getWrittenLanguageLocaleIds()))
+            .orElseGet(WrittenLanguageLocalesHolder::compute);
+
+    // Set containing all written language locales. Languages which can only be written in a single
+    // script are identified using the language code only. The ones that can be written in several
+    // scripts are identified using both the language and script codes.
+    private static Set<ULocale> compute() {
+      return toImmutableSet(
+          getCldrLocales().stream()
+              .filter(LocalesHierarchyUtils::isHighestAncestorLocale)
+              .map(
+                  locale ->
+                      Optional.of(locale)
+                          .filter(l -> l.getScript().isEmpty())
+                          .filter(l -> isLanguageWrittenInSeveralScripts(l.getLanguage()))
+                          .map(ULocale::addLikelySubtags)
+                          .map(
+                              l ->
+                                  new ULocale.Builder()
+                                      .setLanguage(l.getLanguage())
+                                      .setScript(l.getScript())
+                                      .build())
+                          .orElse(locale))
+              .collect(Collectors.toSet()));
+    }
+  }
+
+  /** Lazily initialized holder of the set of all spoken language locales. */
+  private static final class SpokenLanguageLocalesHolder {
+    private static final Set<ULocale> SPOKEN_LANGUAGE_LOCALES =
+        CldrDataSnapshot.get()
+            .<Set<ULocale>>map(
+                snapshot -> LocaleSet.ofLocaleIds(snapshot.getSpokenLanguageLocaleIds()))
+            .orElseGet(SpokenLanguageLocalesHolder::compute);
+
+    // Set containing all spoken language locales.
+    private static Set<ULocale> compute() {
+      return toImmutableSet(
+          Stream.concat(
+                  // Locales consisting only of a language code, except the ones for Chinese.
+                  getCldrLocales().stream()
+                      .filter(
+                          locale -> locale.getScript().isEmpty() && locale.getCountry().isEmpty())
+                      .filter(locale -> !CHINESE.getLanguage().equals(locale.getLanguage())),
+                  // We explicitly add Simplified and Traditional Chinese as zh-Hans and zh-Hant.
+                  Stream.of(SIMPLIFIED_CHINESE, TRADITIONAL_CHINESE))
+              .collect(Collectors.toSet()));
+    }
+  }
+
+  /** Lazily initialized holder of the set of all reference locales. */
+  private static final class ReferenceLocalesHolder {
+    private static final Set<ULocale> REFERENCE_LOCALES =
+        CldrDataSnapshot.get()
+            .<Set<ULocale>>map(snapshot -> LocaleSet.ofLocaleIds(snapshot.getReferenceLocaleIds()))
+            .orElseGet(ReferenceLocalesHolder::compute);
+
+    /**
+     * Set containing all reference locales, which are all CLDR available locales except the ROOT
+     * and en-US-POSIX, minimized.
+     */
+    private static Set<ULocale> compute() {
+      return toImmutableSet(
+          getCldrLocales().stream().map(ULocale::minimizeSubtags).collect(Collectors.toSet()));
+    }
   }
 }
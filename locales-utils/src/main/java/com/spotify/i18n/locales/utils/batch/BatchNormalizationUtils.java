@@ -0,0 +1,230 @@
+/*-
+ * -\-\-
+ * locales-utils
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+package com.spotify.i18n.locales.utils.batch;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.spotify.i18n.locales.utils.acceptlanguage.AcceptLanguageUtils;
+import com.spotify.i18n.locales.utils.languagetag.LanguageTagUtils;
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.Objects;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * A Utility class that provides helpers to normalize large batches of language tags or
+ * accept-language values, as done by {@link LanguageTagUtils#normalize(String)} and {@link
+ * AcceptLanguageUtils#normalize(String)} one value at a time.
+ *
+ * <p>Each batch is normalized through its own bounded cache, so that values repeated across the
+ * batch are only normalized once, while memory usage remains constant no matter the size of the
+ * batch. The line-oriented helpers read and write one value per line, and can be invoked from the
+ * command line through {@link #main(String[])}.
+ *
+ * @author Eric Fjøsne
+ */
+public class BatchNormalizationUtils {
+
+  private static final long MAXIMUM_CACHED_NORMALIZED_VALUES = 10_000L;
+
+  // Size of the buffers used by line-oriented helpers
+  private static final int BUFFER_SIZE = 64 * 1024;
+
+  /**
+   * Returns a lazily normalized stream of language tags, for the given stream of language tags.
+   *
+   * @param languageTags the language tags
+   * @return the normalized language tags, in the same order
+   * @see LanguageTagUtils#normalize(String)
+   */
+  public static Stream<String> normalizeLanguageTags(final Stream<String> languageTags) {
+    Preconditions.checkNotNull(languageTags);
+    return languageTags.map(cachingNormalizer(LanguageTagUtils::normalize));
+  }
+
+  /**
+   * Returns a lazily normalizing iterator of language tags, for the given iterator of language
+   * tags.
+   *
+   * @param languageTags the language tags
+   * @return the normalized language tags, in the same order
+   * @see LanguageTagUtils#normalize(String)
+   */
+  public static Iterator<String> normalizeLanguageTags(
+      final Iterator<? extends CharSequence> languageTags) {
+    Preconditions.checkNotNull(languageTags);
+    return normalizingIterator(languageTags, cachingNormalizer(LanguageTagUtils::normalize));
+  }
+
+  /**
+   * Normalizes all language tags read from the given reader, one per line, and writes them to the
+   * given writer, one per line, in the same order.
+   *
+   * <p>Neither the reader nor the writer are closed, but the writer is flushed.
+   *
+   * @param reader the reader to read language tags from
+   * @param writer the writer to write normalized language tags to
+   * @return the number of normalized lines
+   * @throws IOException if reading or writing failed
+   * @see LanguageTagUtils#normalize(String)
+   */
+  public static long normalizeLanguageTags(final Reader reader, final Writer writer)
+      throws IOException {
+    return normalizeLines(reader, writer, cachingNormalizer(LanguageTagUtils::normalize));
+  }
+
+  /**
+   * Returns a lazily normalized stream of accept-language values, for the given stream of
+   * accept-language values.
+   *
+   * @param acceptLanguageValues the accept-language values
+   * @return the normalized accept-language values, in the same order
+   * @see AcceptLanguageUtils#normalize(String)
+   */
+  public static Stream<String> normalizeAcceptLanguages(final Stream<String> acceptLanguageValues) {
+    Preconditions.checkNotNull(acceptLanguageValues);
+    return acceptLanguageValues.map(cachingNormalizer(AcceptLanguageUtils::normalize));
+  }
+
+  /**
+   * Returns a lazily normalizing iterator of accept-language values, for the given iterator of
+   * accept-language values.
+   *
+   * @param acceptLanguageValues the accept-language values
+   * @return the normalized accept-language values, in the same order
+   * @see AcceptLanguageUtils#normalize(String)
+   */
+  public static Iterator<String> normalizeAcceptLanguages(
+      final Iterator<? extends CharSequence> acceptLanguageValues) {
+    Preconditions.checkNotNull(acceptLanguageValues);
+    return normalizingIterator(
+        acceptLanguageValues, cachingNormalizer(AcceptLanguageUtils::normalize));
+  }
+
+  /**
+   * Normalizes all accept-language values read from the given reader, one per line, and writes them
+   * to the given writer, one per line, in the same order.
+   *
+   * <p>Neither the reader nor the writer are closed, but the writer is flushed.
+   *
+   * @param reader the reader to read accept-language values from
+   * @param writer the writer to write normalized accept-language values to
+   * @return the number of normalized lines
+   * @throws IOException if reading or writing failed
+   * @see AcceptLanguageUtils#normalize(String)
+   */
+  public static long normalizeAcceptLanguages(final Reader reader, final Writer writer)
+      throws IOException {
+    return normalizeLines(reader, writer, cachingNormalizer(AcceptLanguageUtils::normalize));
+  }
+
+  /**
+   * Returns a function applying the given normalizer, through a bounded cache of normalized values.
+   *
+   * @param normalizer the normalizer
+   * @return the caching normalizer
+   */
+  private static Function<String, String> cachingNormalizer(
+      final Function<String, String> normalizer) {
+    final Cache<String, String> cache =
+        CacheBuilder.newBuilder().maximumSize(MAXIMUM_CACHED_NORMALIZED_VALUES).build();
+    return value ->
+        value == null ? normalizer.apply(null) : cache.asMap().computeIfAbsent(value, normalizer);
+  }
+
+  private static Iterator<String> normalizingIterator(
+      final Iterator<? extends CharSequence> values, final Function<String, String> normalizer) {
+    return new Iterator<>() {
+      @Override
+      public boolean hasNext() {
+        return values.hasNext();
+      }
+
+      @Override
+      public String next() {
+        return normalizer.apply(Objects.toString(values.next(), null));
+      }
+    };
+  }
+
+  private static long normalizeLines(
+      final Reader reader, final Writer writer, final Function<String, String> normalizer)
+      throws IOException {
+    Preconditions.checkNotNull(reader);
+    Preconditions.checkNotNull(writer);
+    final BufferedReader bufferedReader = new BufferedReader(reader, BUFFER_SIZE);
+    final BufferedWriter bufferedWriter = new BufferedWriter(writer, BUFFER_SIZE);
+    long count = 0;
+    String line;
+    while ((line = bufferedReader.readLine()) != null) {
+      bufferedWriter.write(normalizer.apply(line));
+      bufferedWriter.write('\n');
+      count++;
+    }
+    bufferedWriter.flush();
+    return count;
+  }
+
+  /**
+   * Normalizes language tags or accept-language values, one per line, from the command line.
+   *
+   * <p>Usage: <code>(language-tags|accept-languages) [input-file [output-file]]</code>. Values are
+   * read from the standard input when no input file is given, and written to the standard output
+   * when no output file is given. Files are read and written in UTF-8.
+   *
+   * @param args the command line arguments
+   * @throws IOException if reading or writing failed
+   */
+  public static void main(final String[] args) throws IOException {
+    Preconditions.checkArgument(
+        args.length >= 1 && args.length <= 3,
+        "Usage: (language-tags|accept-languages) [input-file [output-file]]");
+    try (Reader reader =
+            args.length >= 2
+                ? Files.newBufferedReader(Paths.get(args[1]), StandardCharsets.UTF_8)
+                : new InputStreamReader(System.in, StandardCharsets.UTF_8);
+        Writer writer =
+            args.length == 3
+                ? Files.newBufferedWriter(Paths.get(args[2]), StandardCharsets.UTF_8)
+                : new OutputStreamWriter(System.out, StandardCharsets.UTF_8)) {
+      switch (args[0]) {
+        case "language-tags":
+          normalizeLanguageTags(reader, writer);
+          break;
+        case "accept-languages":
+          normalizeAcceptLanguages(reader, writer);
+          break;
+        default:
+          throw new IllegalArgumentException("Unknown normalization type: " + args[0]);
+      }
+    }
+  }
+}
@@ -24,13 +24,23 @@ import com.google.common.base.Preconditions;
 import com.ibm.icu.util.ULocale;
 import com.ibm.icu.util.ULocale.Builder;
 import com.spotify.i18n.locales.utils.available.AvailableLocalesUtils;
+import com.spotify.i18n.locales.utils.ids.LocaleIdsUtils;
+import com.spotify.i18n.locales.utils.ids.LocaleSet;
+import com.spotify.i18n.locales.utils.internal.CldrDataSnapshot;
+import java.util.ArrayDeque;
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.Collections;
+import java.util.Deque;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Map.Entry;
 import java.util.Optional;
 import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
 
@@ -49,40 +59,88 @@ public class LocalesHierarchyUtils {
 
   /** Set of language codes for which the script is a differentiator in CLDR */
   static final Set<String> LANGUAGE_CODES_WITH_MULTIPLE_SCRIPTS_IN_CLDR =
-      Arrays.stream(ULocale.getAvailableLocales())
-          .filter(locale -> !locale.getScript().isEmpty())
-          .map(ULocale::getLanguage)
-          .collect(Collectors.toSet());
+      CldrDataSnapshot.get()
+          .map(CldrDataSnapshot::getLanguageCodesWithMultipleScripts)
+          .orElseGet(
+              () ->
+                  Arrays.stream(ULocale.getAvailableLocales())
+                      .filter(locale -> !locale.getScript().isEmpty())
+                      .map(ULocale::getLanguage)
+                      .collect(Collectors.toSet()));
+
+  /** Lazily populated cache of the descendant locales, for each locale part of the hierarchy */
+  private static final Map<ULocale, Set<ULocale>> CLDR_DESCENDANT_LOCALES =
+      new ConcurrentHashMap<>();
 
   /**
    * Returns the {@link Set} of all {@link ULocale}s that are descendants of the given locale,
    * according to the CLDR hierarchy.
    *
    * @param locale the locale
-   * @return all of its descendant available locales, according to the CLDR hierarchy
+   * @return an immutable set of all of its descendant available locales, according to the CLDR
+   *     hierarchy
    */
   public static Set<ULocale> getDescendantLocales(final ULocale locale) {
     Preconditions.checkNotNull(locale);
     if (isRootLocale(locale)) {
       // Optimization when requesting descendants of ROOT
       return AvailableLocalesUtils.getCldrLocales();
+    } else if (!CldrHierarchyHolder.CLDR_CHILD_LOCALES.containsKey(locale)) {
+      // Locales without any child in the CLDR hierarchy have no descendants
+      return LocaleSet.of();
     } else {
-      return AvailableLocalesUtils.getCldrLocales().stream()
-          .filter(ul -> isDescendantLocale(ul, locale))
-          .collect(Collectors.toSet());
+      return CLDR_DESCENDANT_LOCALES.computeIfAbsent(
+          locale, LocalesHierarchyUtils::computeDescendantLocales);
     }
   }
 
+  /**
+   * Computes the {@link Set} of all {@link ULocale}s available in CLDR that are descendants of the
+   * given locale, by traversing its subtree in the CLDR hierarchy.
+   *
+   * @param locale the locale
+   * @return all of its descendant available locales, according to the CLDR hierarchy
+   */
+  private static Set<ULocale> computeDescendantLocales(final ULocale locale) {
+    final Set<ULocale> descendants = new HashSet<>();
+    final Deque<ULocale> localesToVisit =
+        new ArrayDeque<>(CldrHierarchyHolder.CLDR_CHILD_LOCALES.getOrDefault(locale, Set.of()));
+    while (!localesToVisit.isEmpty()) {
+      final ULocale current = localesToVisit.pop();
+      if (AvailableLocalesUtils.getCldrLocales().contains(current)) {
+        descendants.add(current);
+      }
+      localesToVisit.addAll(CldrHierarchyHolder.CLDR_CHILD_LOCALES.getOrDefault(current, Set.of()));
+    }
+    return LocaleSet.copyOf(descendants);
+  }
+
   /**
    * Returns the {@link List} of {@link ULocale}s that are ancestors of the given locale, according
    * to the CLDR hierarchy, ordered from immediate parent all the way to the ROOT (included in the
    * returned list).
    *
    * @param locale the locale
-   * @return all of its ancestors, ordered from immediate parent to the ROOT locale (included)
+   * @return an unmodifiable list of all of its ancestors, ordered from immediate parent to the ROOT
+   *     locale (included)
    */
   public static List<ULocale> getAncestorLocales(final ULocale locale) {
     Preconditions.checkNotNull(locale);
+    final List<ULocale> cldrAncestors = CldrHierarchyHolder.CLDR_ANCESTOR_LOCALES.get(locale);
+    if (cldrAncestors != null) {
+      return cldrAncestors;
+    }
+    return computeAncestorLocales(locale);
+  }
+
+  /**
+   * Computes the {@link List} of ancestor {@link ULocale}s of the given locale, by walking up the
+   * CLDR hierarchy.
+   *
+   * @param locale the locale
+   * @return all of its ancestors, ordered from immediate parent to the ROOT locale (included)
+   */
+  static List<ULocale> computeAncestorLocales(final ULocale locale) {
     if (isRootLocale(locale)) {
       return List.of();
     }
@@ -93,7 +151,7 @@ public class LocalesHierarchyUtils {
       ancestors.add(current);
       currentOpt = getParentLocale(current);
     } while (currentOpt.isPresent());
-    return ancestors;
+    return Collections.unmodifiableList(ancestors);
   }
 
   /**
@@ -107,6 +165,15 @@ public class LocalesHierarchyUtils {
   public static ULocale getHighestAncestorLocale(final ULocale locale) {
     Preconditions.checkNotNull(locale);
     Preconditions.checkArgument(!isRootLocale(locale), "Param locale cannot be the ROOT.");
+    final List<ULocale> cldrAncestors = CldrHierarchyHolder.CLDR_ANCESTOR_LOCALES.get(locale);
+    if (cldrAncestors != null) {
+      // The ancestors chain ends with the ROOT, when reached. We return the last one before it.
+      int lastIndex = cldrAncestors.size() - 1;
+      if (lastIndex >= 0 && isRootLocale(cldrAncestors.get(lastIndex))) {
+        lastIndex--;
+      }
+      return lastIndex >= 0 ? cldrAncestors.get(lastIndex) : locale;
+    }
     ULocale highestAncestor = locale;
     while (true) {
       Optional<ULocale> currentOpt = getParentLocale(highestAncestor);
@@ -160,6 +227,12 @@ public class LocalesHierarchyUtils {
       return false;
     }
 
+    // Locales available in CLDR have their ancestors chain precomputed
+    final List<ULocale> cldrAncestors = CldrHierarchyHolder.CLDR_ANCESTOR_LOCALES.get(underTest);
+    if (cldrAncestors != null) {
+      return cldrAncestors.contains(ancestorLocale);
+    }
+
     // We start from the underTest locale position and go up in the hierarchy
     Optional<ULocale> currentOpt = getParentLocale(underTest);
     while (true) {
@@ -230,6 +303,45 @@ public class LocalesHierarchyUtils {
    */
   public static Optional<ULocale> getParentLocale(final ULocale locale) {
     Preconditions.checkNotNull(locale);
+    // The parent locales index is null while it is being built, during its holder initialization.
+    final Optional<ULocale> cldrParent =
+        CldrHierarchyHolder.CLDR_PARENT_LOCALES != null
+            ? CldrHierarchyHolder.CLDR_PARENT_LOCALES.get(locale)
+            : null;
+    if (cldrParent != null) {
+      return cldrParent;
+    }
+    return computeParentLocale(locale);
+  }
+
+  /**
+   * Returns the optional parent {@link ULocale} according to CLDR, for a given locale. It is read
+   * from the precomputed {@link CldrDataSnapshot} when available, and computed otherwise.
+   *
+   * @param locale the locale of which we want to get the parent of
+   * @return the optional parent locale, according to CLDR
+   */
+  private static Optional<ULocale> loadParentLocale(final ULocale locale) {
+    if (CldrDataSnapshot.get().isPresent()) {
+      final int localeId = LocaleIdsUtils.getLocaleId(locale);
+      if (localeId != LocaleIdsUtils.NO_LOCALE_ID) {
+        final int parentLocaleId = LocaleIdsUtils.getParentLocaleId(localeId);
+        return parentLocaleId == LocaleIdsUtils.NO_LOCALE_ID
+            ? Optional.empty()
+            : Optional.of(LocaleIdsUtils.getLocale(parentLocaleId));
+      }
+    }
+    return computeParentLocale(locale);
+  }
+
+  /**
+   * Computes the optional parent {@link ULocale} according to CLDR, for a given locale, considering
+   * special parent locales maintained in CLDR.
+   *
+   * @param locale the locale of which we want to get the parent of
+   * @return the optional parent locale, according to CLDR
+   */
+  static Optional<ULocale> computeParentLocale(final ULocale locale) {
     if (CHILD_TO_PARENT_MAP.containsKey(locale)) {
       return Optional.of(CHILD_TO_PARENT_MAP.get(locale));
     } else {
@@ -321,6 +433,26 @@ public class LocalesHierarchyUtils {
         .orElseGet(() -> ULocale.addLikelySubtags(locale).getScript());
   }
 
+  /**
+   * Returns a {@link Map} containing the {@link ULocale}s part of the CLDR hierarchy and their
+   * corresponding child {@link ULocale}s, based on the precomputed ancestors chains.
+   *
+   * @return map of child locales, for each locale having at least one child
+   */
+  private static Map<ULocale, Set<ULocale>> generateCldrChildLocalesMap() {
+    final Map<ULocale, Set<ULocale>> childLocales = new HashMap<>();
+    CldrHierarchyHolder.CLDR_ANCESTOR_LOCALES.forEach(
+        (locale, ancestors) -> {
+          ULocale child = locale;
+          for (ULocale parent : ancestors) {
+            childLocales.computeIfAbsent(parent, p -> new HashSet<>()).add(child);
+            child = parent;
+          }
+        });
+    return childLocales.entrySet().stream()
+        .collect(Collectors.toUnmodifiableMap(Entry::getKey, e -> Set.copyOf(e.getValue())));
+  }
+
   /**
    * Returns a {@link Map} containing the {@link ULocale}s and their corresponding parent {@link
    * ULocale}. It only contains the ones for which the parent locale differs from the one returned
@@ -534,4 +666,35 @@ public class LocalesHierarchyUtils {
                 e -> ULocale.forLanguageTag(e.getKey()),
                 e -> ULocale.forLanguageTag(e.getValue())));
   }
+
+  /**
+   * Lazily initialized holder of the precomputed CLDR hierarchy indexes, so that they are only
+   * built on first use of a helper method relying on them.
+   */
+  private static final class CldrHierarchyHolder {
+    /**
+     * Precomputed index of the optional parent locale, for each locale available in CLDR. It is
+     * built out of ICU directly rather than {@link AvailableLocalesUtils}, as the latter relies on
+     * this class for its own initialization.
+     */
+    private static final Map<ULocale, Optional<ULocale>> CLDR_PARENT_LOCALES =
+        Arrays.stream(ULocale.getAvailableLocales())
+            .collect(
+                Collectors.toUnmodifiableMap(
+                    Function.identity(), LocalesHierarchyUtils::loadParentLocale, (p1, p2) -> p1));
+
+    /** Precomputed index of the ancestor locales chain, for each locale available in CLDR. */
+    private static final Map<ULocale, List<ULocale>> CLDR_ANCESTOR_LOCALES =
+        CLDR_PARENT_LOCALES.keySet().stream()
+            .collect(
+                Collectors.toUnmodifiableMap(
+                    Function.identity(), LocalesHierarchyUtils::computeAncestorLocales));
+
+    /**
+     * Precomputed index of the child locales, for each locale part of the CLDR hierarchy. Keys
+     * include intermediate locales which are not necessarily available in CLDR themselves.
+     */
+    private static final Map<ULocale, Set<ULocale>> CLDR_CHILD_LOCALES =
+        generateCldrChildLocalesMap();
+  }
 }
@@ -0,0 +1,307 @@
+/*-
+ * -\-\-
+ * locales-utils
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.i18n.locales.utils.ids;
+
+import com.google.common.base.Preconditions;
+import com.ibm.icu.util.ULocale;
+import com.spotify.i18n.locales.utils.available.AvailableLocalesUtils;
+import com.spotify.i18n.locales.utils.hierarchy.LocalesHierarchyUtils;
+import com.spotify.i18n.locales.utils.internal.CldrDataSnapshot;
+import com.spotify.i18n.locales.utils.languagetag.LanguageTagUtils;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.Deque;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.stream.IntStream;
+
+/**
+ * A Utility class that assigns a dense int identifier to each locale available in CLDR, so that hot
+ * paths can perform comparisons, membership checks and hierarchy operations based on primitive
+ * values, arrays and bitsets rather than {@link ULocale} instances.
+ *
+ * <p>The identifier space covers all locales available in CLDR, along with their minimized and
+ * language-script forms, and all of their ancestors in the CLDR hierarchy, including the ROOT. It
+ * therefore includes all locales returned by {@link AvailableLocalesUtils#getCldrLocales()}, {@link
+ * AvailableLocalesUtils#getReferenceLocales()}, {@link
+ * AvailableLocalesUtils#getWrittenLanguageLocales()} and {@link
+ * AvailableLocalesUtils#getSpokenLanguageLocales()}.
+ *
+ * <p>Identifiers range from 0 (included) to {@link #getLocaleIdCount()} (excluded), and are
+ * assigned by ascending language tag order. They are stable for a given version of ICU, but must
+ * never be persisted or exchanged across versions. Locales outside of this space are identified by
+ * {@link #NO_LOCALE_ID}.
+ *
+ * @author Eric Fjøsne
+ */
+public class LocaleIdsUtils {
+
+  /** Identifier returned for locales outside of the identifier space */
+  public static final int NO_LOCALE_ID = -1;
+
+  // Outlier locale we don't want to encounter
+  private static final ULocale EN_US_POSIX = ULocale.forLanguageTag("en-US-POSIX");
+
+  // Locales and parent identifiers are read from the precomputed snapshot, when available.
+  private static final ULocale[] LOCALES =
+      CldrDataSnapshot.get()
+          .map(snapshot -> snapshot.getLocales().toArray(ULocale[]::new))
+          .orElseGet(LocaleIdsUtils::generateLocales);
+
+  private static final Map<ULocale, Integer> LOCALE_IDS = generateLocaleIds();
+
+  private static final int[] PARENT_LOCALE_IDS =
+      CldrDataSnapshot.get()
+          .map(CldrDataSnapshot::getParentLocaleIds)
+          .orElseGet(LocaleIdsUtils::generateParentLocaleIds);
+
+  private static final int[][] ANCESTOR_LOCALE_IDS = generateAncestorLocaleIds();
+
+  /**
+   * Returns the number of identifiers, which is also the exclusive upper bound of all identifiers.
+   *
+   * @return the number of identifiers
+   */
+  public static int getLocaleIdCount() {
+    return LOCALES.length;
+  }
+
+  /**
+   * Returns the identifier of the given locale, or {@link #NO_LOCALE_ID} if it is outside of the
+   * identifier space.
+   *
+   * @param locale the locale
+   * @return the identifier of the locale
+   */
+  public static int getLocaleId(final ULocale locale) {
+    Preconditions.checkNotNull(locale);
+    return LOCALE_IDS.getOrDefault(locale, NO_LOCALE_ID);
+  }
+
+  /**
+   * Returns the identifier of the locale parsed out of the given language tag, or {@link
+   * #NO_LOCALE_ID} if it is invalid or outside of the identifier space.
+   *
+   * @param languageTag the language tag
+   * @return the identifier of the parsed locale
+   * @see LanguageTagUtils#parse(String)
+   */
+  public static int getLocaleId(final String languageTag) {
+    return LanguageTagUtils.parse(languageTag)
+        .map(LocaleIdsUtils::getLocaleId)
+        .orElse(NO_LOCALE_ID);
+  }
+
+  /**
+   * Returns the locale identified by the given identifier.
+   *
+   * @param localeId the locale identifier
+   * @return the locale
+   * @throws IndexOutOfBoundsException if the identifier is out of range
+   */
+  public static ULocale getLocale(final int localeId) {
+    Preconditions.checkElementIndex(localeId, LOCALES.length);
+    return LOCALES[localeId];
+  }
+
+  /**
+   * Returns the language tag of the locale identified by the given identifier.
+   *
+   * @param localeId the locale identifier
+   * @return the language tag
+   * @throws IndexOutOfBoundsException if the identifier is out of range
+   */
+  public static String getLanguageTag(final int localeId) {
+    return getLocale(localeId).toLanguageTag();
+  }
+
+  /**
+   * Returns the identifier of the parent locale, according to the CLDR hierarchy, or {@link
+   * #NO_LOCALE_ID} for the ROOT.
+   *
+   * @param localeId the locale identifier
+   * @return the identifier of the parent locale
+   * @throws IndexOutOfBoundsException if the identifier is out of range
+   * @see LocalesHierarchyUtils#getParentLocale(ULocale)
+   */
+  public static int getParentLocaleId(final int localeId) {
+    Preconditions.checkElementIndex(localeId, LOCALES.length);
+    return PARENT_LOCALE_IDS[localeId];
+  }
+
+  /**
+   * Returns the identifiers of the ancestor locales, according to the CLDR hierarchy, ordered from
+   * immediate parent all the way to the ROOT (included).
+   *
+   * @param localeId the locale identifier
+   * @return the identifiers of the ancestor locales
+   * @throws IndexOutOfBoundsException if the identifier is out of range
+   * @see LocalesHierarchyUtils#getAncestorLocales(ULocale)
+   */
+  public static int[] getAncestorLocaleIds(final int localeId) {
+    Preconditions.checkElementIndex(localeId, LOCALES.length);
+    return ANCESTOR_LOCALE_IDS[localeId].clone();
+  }
+
+  /**
+   * Returns true if the locale under test is a descendant (direct or subsequent) of the given
+   * ancestor locale, according to the CLDR hierarchy.
+   *
+   * @param underTestId the identifier of the locale under test
+   * @param ancestorId the identifier of the locale supposed to be one of the ancestors
+   * @return true if underTest is a descendant of the ancestor locale
+   * @throws IndexOutOfBoundsException if any of the identifiers is out of range
+   * @see LocalesHierarchyUtils#isDescendantLocale(ULocale, ULocale)
+   */
+  public static boolean isDescendantLocaleId(final int underTestId, final int ancestorId) {
+    Preconditions.checkElementIndex(underTestId, LOCALES.length);
+    Preconditions.checkElementIndex(ancestorId, LOCALES.length);
+    for (int id : ANCESTOR_LOCALE_IDS[underTestId]) {
+      if (id == ancestorId) {
+        return true;
+      }
+    }
+    return false;
+  }
+
+  /**
+   * Returns true if the given identifier identifies a locale part of {@link
+   * AvailableLocalesUtils#getCldrLocales()}.
+   *
+   * @param localeId the locale identifier
+   * @return true if the identified locale is a CLDR locale
+   */
+  public static boolean isCldrLocaleId(final int localeId) {
+    return containsLocaleId(AvailableLocalesUtils.getCldrLocales(), localeId);
+  }
+
+  /**
+   * Returns true if the given identifier identifies a locale part of {@link
+   * AvailableLocalesUtils#getReferenceLocales()}.
+   *
+   * @param localeId the locale identifier
+   * @return true if the identified locale is a reference locale
+   */
+  public static boolean isReferenceLocaleId(final int localeId) {
+    return containsLocaleId(AvailableLocalesUtils.getReferenceLocales(), localeId);
+  }
+
+  /**
+   * Returns true if the given identifier identifies a locale part of {@link
+   * AvailableLocalesUtils#getWrittenLanguageLocales()}.
+   *
+   * @param localeId the locale identifier
+   * @return true if the identified locale is a written language locale
+   */
+  public static boolean isWrittenLanguageLocaleId(final int localeId) {
+    return containsLocaleId(AvailableLocalesUtils.getWrittenLanguageLocales(), localeId);
+  }
+
+  /**
+   * Returns true if the given identifier identifies a locale part of {@link
+   * AvailableLocalesUtils#getSpokenLanguageLocales()}.
+   *
+   * @param localeId the locale identifier
+   * @return true if the identified locale is a spoken language locale
+   */
+  public static boolean isSpokenLanguageLocaleId(final int localeId) {
+    return containsLocaleId(AvailableLocalesUtils.getSpokenLanguageLocales(), localeId);
+  }
+
+  // Available locale sets are LocaleSets when read from the precomputed snapshot, and otherwise
+  // plain sets, which are never copied into LocaleSets here to avoid doing so on every call.
+  private static boolean containsLocaleId(final Set<ULocale> locales, final int localeId) {
+    if (locales instanceof LocaleSet) {
+      return ((LocaleSet) locales).containsLocaleId(localeId);
+    }
+    return localeId >= 0 && localeId < LOCALES.length && locales.contains(LOCALES[localeId]);
+  }
+
+  // All locales available in ICU except en-US-POSIX, along with their minimized and language-script
+  // forms, and all of their ancestors, ordered by language tag. This is built out of ICU directly
+  // rather than AvailableLocalesUtils, as the latter relies on this class for its own
+  // initialization.
+  private static ULocale[] generateLocales() {
+    final Set<ULocale> locales = new HashSet<>();
+    final Deque<ULocale> localesToVisit = new ArrayDeque<>();
+    localesToVisit.push(ULocale.ROOT);
+    Arrays.stream(ULocale.getAvailableLocales())
+        .filter(locale -> !LocalesHierarchyUtils.isSameLocale(locale, EN_US_POSIX))
+        .forEach(
+            locale -> {
+              final ULocale maximized = ULocale.addLikelySubtags(locale);
+              localesToVisit.push(locale);
+              localesToVisit.push(ULocale.minimizeSubtags(locale));
+              localesToVisit.push(
+                  new ULocale.Builder()
+                      .setLanguage(maximized.getLanguage())
+                      .setScript(maximized.getScript())
+                      .build());
+            });
+    while (!localesToVisit.isEmpty()) {
+      final ULocale current = localesToVisit.pop();
+      if (locales.add(current)) {
+        LocalesHierarchyUtils.getParentLocale(current).ifPresent(localesToVisit::push);
+      }
+    }
+    return locales.stream()
+        .sorted(Comparator.comparing(ULocale::toLanguageTag).thenComparing(ULocale::getName))
+        .toArray(ULocale[]::new);
+  }
+
+  private static Map<ULocale, Integer> generateLocaleIds() {
+    final Map<ULocale, Integer> localeIds = new HashMap<>();
+    for (int id = 0; id < LOCALES.length; id++) {
+      localeIds.put(LOCALES[id], id);
+    }
+    return localeIds;
+  }
+
+  private static int[] generateParentLocaleIds() {
+    final int[] parentLocaleIds = new int[LOCALES.length];
+    for (int id = 0; id < LOCALES.length; id++) {
+      parentLocaleIds[id] =
+          LocalesHierarchyUtils.getParentLocale(LOCALES[id])
+              .map(LOCALE_IDS::get)
+              .orElse(NO_LOCALE_ID);
+    }
+    return parentLocaleIds;
+  }
+
+  // Ancestors are resolved by walking up the parent identifiers, ordered from immediate parent to
+  // the ROOT (included), as returned by LocalesHierarchyUtils.getAncestorLocales.
+  private static int[][] generateAncestorLocaleIds() {
+    final int[][] ancestorLocaleIds = new int[LOCALES.length][];
+    for (int id = 0; id < LOCALES.length; id++) {
+      final IntStream.Builder ancestors = IntStream.builder();
+      for (int ancestorId = PARENT_LOCALE_IDS[id];
+          ancestorId != NO_LOCALE_ID;
+          ancestorId = PARENT_LOCALE_IDS[ancestorId]) {
+        ancestors.add(ancestorId);
+      }
+      ancestorLocaleIds[id] = ancestors.build().toArray();
+    }
+    return ancestorLocaleIds;
+  }
+}
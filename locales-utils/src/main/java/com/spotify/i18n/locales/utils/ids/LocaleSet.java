@@ -0,0 +1,237 @@
+/*-
+ * -\-\-
+ * locales-utils
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.i18n.locales.utils.ids;
+
+import com.google.common.base.Preconditions;
+import com.ibm.icu.util.ULocale;
+import java.util.AbstractSet;
+import java.util.Arrays;
+import java.util.BitSet;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.stream.IntStream;
+
+/**
+ * An immutable {@link java.util.Set} of {@link ULocale}, backed by a bitset over the dense
+ * identifiers assigned by {@link LocaleIdsUtils}.
+ *
+ * <p>Membership checks are a single bit lookup, and set operations between two {@link LocaleSet}s
+ * (union, intersection, inclusion and equality) are performed on whole words at once. Iteration
+ * follows the canonical identifier order, which is the ascending language tag order.
+ *
+ * <p>Only locales part of the identifier space can be contained in a {@link LocaleSet}, which is
+ * the case for all locales available in CLDR, along with their ancestors. New instances must be
+ * created using the {@link #copyOf(Collection)} or {@link #of(ULocale...)} methods.
+ *
+ * @see LocaleIdsUtils
+ * @author Eric Fjøsne
+ */
+public final class LocaleSet extends AbstractSet<ULocale> {
+
+  private static final LocaleSet EMPTY = new LocaleSet(new BitSet());
+
+  private final BitSet localeIds;
+  private final int size;
+  private int hashCode;
+
+  private LocaleSet(final BitSet localeIds) {
+    this.localeIds = localeIds;
+    this.size = localeIds.cardinality();
+  }
+
+  /**
+   * Returns an empty {@link LocaleSet}.
+   *
+   * @return the empty set
+   */
+  public static LocaleSet of() {
+    return EMPTY;
+  }
+
+  /**
+   * Returns a {@link LocaleSet} containing the given locales.
+   *
+   * @param locales the locales
+   * @return the locale set
+   * @throws IllegalArgumentException if any of the locales is outside of the identifier space
+   */
+  public static LocaleSet of(final ULocale... locales) {
+    Preconditions.checkNotNull(locales);
+    return copyOf(Arrays.asList(locales));
+  }
+
+  /**
+   * Returns a {@link LocaleSet} containing the given locales. The given collection is returned as
+   * is when it already is a {@link LocaleSet}.
+   *
+   * @param locales the locales
+   * @return the locale set
+   * @throws IllegalArgumentException if any of the locales is outside of the identifier space
+   */
+  public static LocaleSet copyOf(final Collection<ULocale> locales) {
+    Preconditions.checkNotNull(locales);
+    if (locales instanceof LocaleSet) {
+      return (LocaleSet) locales;
+    }
+    final BitSet localeIds = new BitSet(LocaleIdsUtils.getLocaleIdCount());
+    for (ULocale locale : locales) {
+      final int localeId = LocaleIdsUtils.getLocaleId(locale);
+      Preconditions.checkArgument(
+          localeId != LocaleIdsUtils.NO_LOCALE_ID,
+          "Given locale is outside of the locale identifier space: %s",
+          locale);
+      localeIds.set(localeId);
+    }
+    return fromLocaleIds(localeIds);
+  }
+
+  /**
+   * Returns a {@link LocaleSet} containing the locales identified by the given identifiers.
+   *
+   * @param localeIds the locale identifiers
+   * @return the locale set
+   * @throws IndexOutOfBoundsException if any of the identifiers is out of range
+   */
+  public static LocaleSet ofLocaleIds(final int... localeIds) {
+    Preconditions.checkNotNull(localeIds);
+    final BitSet bits = new BitSet(LocaleIdsUtils.getLocaleIdCount());
+    for (int localeId : localeIds) {
+      Preconditions.checkElementIndex(localeId, LocaleIdsUtils.getLocaleIdCount());
+      bits.set(localeId);
+    }
+    return fromLocaleIds(bits);
+  }
+
+  private static LocaleSet fromLocaleIds(final BitSet localeIds) {
+    return localeIds.isEmpty() ? EMPTY : new LocaleSet(localeIds);
+  }
+
+  /**
+   * Returns true if this set contains the locale identified by the given identifier. Returns false
+   * for {@link LocaleIdsUtils#NO_LOCALE_ID} and out of range identifiers.
+   *
+   * @param localeId the locale identifier
+   * @return true if this set contains the identified locale
+   */
+  public boolean containsLocaleId(final int localeId) {
+    return localeId >= 0 && localeIds.get(localeId);
+  }
+
+  /**
+   * Returns the identifiers of the locales contained in this set, in ascending order.
+   *
+   * @return the stream of locale identifiers
+   */
+  public IntStream localeIds() {
+    return localeIds.stream();
+  }
+
+  /**
+   * Returns a new {@link LocaleSet}, containing the locales contained in this set or the given one.
+   *
+   * @param other the other set
+   * @return the union of both sets
+   */
+  public LocaleSet union(final LocaleSet other) {
+    Preconditions.checkNotNull(other);
+    final BitSet union = (BitSet) localeIds.clone();
+    union.or(other.localeIds);
+    return fromLocaleIds(union);
+  }
+
+  /**
+   * Returns a new {@link LocaleSet}, containing the locales contained in both this set and the
+   * given one.
+   *
+   * @param other the other set
+   * @return the intersection of both sets
+   */
+  public LocaleSet intersection(final LocaleSet other) {
+    Preconditions.checkNotNull(other);
+    final BitSet intersection = (BitSet) localeIds.clone();
+    intersection.and(other.localeIds);
+    return fromLocaleIds(intersection);
+  }
+
+  /**
+   * Returns a new {@link LocaleSet}, containing the locales contained in this set but not in the
+   * given one.
+   *
+   * @param other the other set
+   * @return the difference between both sets
+   */
+  public LocaleSet difference(final LocaleSet other) {
+    Preconditions.checkNotNull(other);
+    final BitSet difference = (BitSet) localeIds.clone();
+    difference.andNot(other.localeIds);
+    return fromLocaleIds(difference);
+  }
+
+  @Override
+  public boolean contains(final Object o) {
+    return o instanceof ULocale && containsLocaleId(LocaleIdsUtils.getLocaleId((ULocale) o));
+  }
+
+  @Override
+  public boolean containsAll(final Collection<?> c) {
+    if (c instanceof LocaleSet) {
+      final BitSet missing = (BitSet) ((LocaleSet) c).localeIds.clone();
+      missing.andNot(localeIds);
+      return missing.isEmpty();
+    }
+    return super.containsAll(c);
+  }
+
+  @Override
+  public Iterator<ULocale> iterator() {
+    return localeIds.stream().mapToObj(LocaleIdsUtils::getLocale).iterator();
+  }
+
+  @Override
+  public int size() {
+    return size;
+  }
+
+  @Override
+  public boolean isEmpty() {
+    return size == 0;
+  }
+
+  @Override
+  public boolean equals(final Object o) {
+    if (o instanceof LocaleSet) {
+      return localeIds.equals(((LocaleSet) o).localeIds);
+    }
+    return super.equals(o);
+  }
+
+  // Consistent with the Set contract, so that a LocaleSet and any other Set containing the same
+  // locales share the same hash code. It is computed once, as the set is immutable.
+  @Override
+  public int hashCode() {
+    int h = hashCode;
+    if (h == 0 && size > 0) {
+      h = super.hashCode();
+      hashCode = h;
+    }
+    return h;
+  }
+}
@@ -0,0 +1,350 @@
+/*-
+ * -\-\-
+ * locales-utils
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+package com.spotify.i18n.locales.utils.internal;
+
+import com.ibm.icu.util.ULocale;
+import com.ibm.icu.util.VersionInfo;
+import com.spotify.i18n.locales.utils.available.AvailableLocalesUtils;
+import com.spotify.i18n.locales.utils.hierarchy.LocalesHierarchyUtils;
+import com.spotify.i18n.locales.utils.ids.LocaleIdsUtils;
+import com.spotify.i18n.locales.utils.ids.LocaleSet;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+/**
+ * Precomputed snapshot of the CLDR derived data, which is otherwise computed out of ICU on first
+ * use of the utility classes of this library:
+ *
+ * <ul>
+ *   <li>the locale identifier space of {@link LocaleIdsUtils}, along with the identifier of the
+ *       parent of each locale, according to {@link LocalesHierarchyUtils#getParentLocale(ULocale)}.
+ *   <li>the locale sets returned by {@link AvailableLocalesUtils}.
+ *   <li>the language codes for which {@link
+ *       LocalesHierarchyUtils#isLanguageWrittenInSeveralScripts(String)} returns true.
+ * </ul>
+ *
+ * <p>The snapshot is generated at build time into the {@link #RESOURCE_NAME} classpath resource.
+ * Its header records the ICU version it was generated with, so that a stale resource is detected
+ * and ignored when read, in which case all data gets computed out of ICU instead.
+ *
+ * <p>This class is internal to this library, and not part of its public API: it is meant to be used
+ * by the utility classes of this library only, and may change without notice.
+ *
+ * @author Eric Fjøsne
+ */
+public final class CldrDataSnapshot {
+
+  /** Name of the classpath resource, relative to this class, containing the serialized snapshot */
+  static final String RESOURCE_NAME = "cldr-data-snapshot.bin";
+
+  // Serialization header
+  private static final int MAGIC_NUMBER = 0x434C4453; // "CLDS"
+  private static final int FORMAT_VERSION = 1;
+
+  private final List<ULocale> locales;
+  private final int[] parentLocaleIds;
+  private final int[] cldrLocaleIds;
+  private final int[] referenceLocaleIds;
+  private final int[] writtenLanguageLocaleIds;
+  private final int[] spokenLanguageLocaleIds;
+  private final Set<String> languageCodesWithMultipleScripts;
+
+  private CldrDataSnapshot(
+      final List<ULocale> locales,
+      final int[] parentLocaleIds,
+      final int[] cldrLocaleIds,
+      final int[] referenceLocaleIds,
+      final int[] writtenLanguageLocaleIds,
+      final int[] spokenLanguageLocaleIds,
+      final Set<String> languageCodesWithMultipleScripts) {
+    this.locales = List.copyOf(locales);
+    this.parentLocaleIds = parentLocaleIds;
+    this.cldrLocaleIds = cldrLocaleIds;
+    this.referenceLocaleIds = referenceLocaleIds;
+    this.writtenLanguageLocaleIds = writtenLanguageLocaleIds;
+    this.spokenLanguageLocaleIds = spokenLanguageLocaleIds;
+    this.languageCodesWithMultipleScripts = Set.copyOf(languageCodesWithMultipleScripts);
+  }
+
+  /**
+   * Returns the snapshot read from the {@link #RESOURCE_NAME} classpath resource, if present and
+   * generated with the current ICU version. The resource is read once, on first call.
+   *
+   * @return the optional snapshot, empty when the resource is missing, unreadable, stale or invalid
+   */
+  public static Optional<CldrDataSnapshot> get() {
+    return SnapshotHolder.SNAPSHOT;
+  }
+
+  /**
+   * Returns the locales of the identifier space, ordered by identifier.
+   *
+   * @return the locales, ordered by identifier
+   */
+  public List<ULocale> getLocales() {
+    return locales;
+  }
+
+  /**
+   * Returns the identifiers of the parent locales, indexed by locale identifier. The ROOT has
+   * {@link LocaleIdsUtils#NO_LOCALE_ID} as parent.
+   *
+   * @return the identifiers of the parent locales
+   */
+  public int[] getParentLocaleIds() {
+    return parentLocaleIds.clone();
+  }
+
+  /**
+   * Returns the identifiers of the locales returned by {@link
+   * AvailableLocalesUtils#getCldrLocales()}.
+   *
+   * @return the locale identifiers
+   */
+  public int[] getCldrLocaleIds() {
+    return cldrLocaleIds.clone();
+  }
+
+  /**
+   * Returns the identifiers of the locales returned by {@link
+   * AvailableLocalesUtils#getReferenceLocales()}.
+   *
+   * @return the locale identifiers
+   */
+  public int[] getReferenceLocaleIds() {
+    return referenceLocaleIds.clone();
+  }
+
+  /**
+   * Returns the identifiers of the locales returned by {@link
+   * AvailableLocalesUtils#getWrittenLanguageLocales()}.
+   *
+   * @return the locale identifiers
+   */
+  public int[] getWrittenLanguageLocaleIds() {
+    return writtenLanguageLocaleIds.clone();
+  }
+
+  /**
+   * Returns the identifiers of the locales returned by {@link
+   * AvailableLocalesUtils#getSpokenLanguageLocales()}.
+   *
+   * @return the locale identifiers
+   */
+  public int[] getSpokenLanguageLocaleIds() {
+    return spokenLanguageLocaleIds.clone();
+  }
+
+  /**
+   * Returns the language codes identifying languages that can be written using different scripts.
+   *
+   * @return the language codes
+   */
+  public Set<String> getLanguageCodesWithMultipleScripts() {
+    return languageCodesWithMultipleScripts;
+  }
+
+  /**
+   * Generates the snapshot out of the utility classes of this library. When no snapshot is
+   * available, these compute all of their data out of ICU.
+   *
+   * @return the generated snapshot
+   */
+  static CldrDataSnapshot generate() {
+    final int count = LocaleIdsUtils.getLocaleIdCount();
+    final List<ULocale> locales =
+        IntStream.range(0, count).mapToObj(LocaleIdsUtils::getLocale).collect(Collectors.toList());
+    return new CldrDataSnapshot(
+        locales,
+        IntStream.range(0, count).map(LocaleIdsUtils::getParentLocaleId).toArray(),
+        getLocaleIds(AvailableLocalesUtils.getCldrLocales()),
+        getLocaleIds(AvailableLocalesUtils.getReferenceLocales()),
+        getLocaleIds(AvailableLocalesUtils.getWrittenLanguageLocales()),
+        getLocaleIds(AvailableLocalesUtils.getSpokenLanguageLocales()),
+        locales.stream()
+            .map(ULocale::getLanguage)
+            .filter(LocalesHierarchyUtils::isLanguageWrittenInSeveralScripts)
+            .collect(Collectors.toSet()));
+  }
+
+  private static int[] getLocaleIds(final Set<ULocale> locales) {
+    return LocaleSet.copyOf(locales).localeIds().toArray();
+  }
+
+  /**
+   * Writes this snapshot to the given channel.
+   *
+   * @param channel the channel to write to
+   * @throws IOException if the snapshot could not be written
+   */
+  void writeTo(final WritableByteChannel channel) throws IOException {
+    final List<byte[]> encodedStrings = new ArrayList<>();
+    encodedStrings.add(getIcuVersion());
+    locales.forEach(locale -> encodedStrings.add(encode(locale.getName())));
+    languageCodesWithMultipleScripts.stream()
+        .sorted()
+        .forEach(languageCode -> encodedStrings.add(encode(languageCode)));
+    final List<int[]> intArrays =
+        List.of(
+            parentLocaleIds,
+            cldrLocaleIds,
+            referenceLocaleIds,
+            writtenLanguageLocaleIds,
+            spokenLanguageLocaleIds);
+
+    int size = Integer.BYTES * 4;
+    for (byte[] encoded : encodedStrings) {
+      size += Integer.BYTES + encoded.length;
+    }
+    for (int[] intArray : intArrays) {
+      size += Integer.BYTES * (intArray.length + 1);
+    }
+
+    final ByteBuffer buffer = ByteBuffer.allocate(size);
+    buffer.putInt(MAGIC_NUMBER).putInt(FORMAT_VERSION);
+    buffer.putInt(locales.size()).putInt(languageCodesWithMultipleScripts.size());
+    for (byte[] encoded : encodedStrings) {
+      buffer.putInt(encoded.length).put(encoded);
+    }
+    for (int[] intArray : intArrays) {
+      buffer.putInt(intArray.length);
+      for (int value : intArray) {
+        buffer.putInt(value);
+      }
+    }
+    buffer.flip();
+    while (buffer.hasRemaining()) {
+      channel.write(buffer);
+    }
+  }
+
+  /**
+   * Reads a snapshot from the given serialized bytes, and returns it only if it was generated with
+   * the given ICU version.
+   *
+   * @param buffer the serialized snapshot
+   * @param expectedIcuVersion the ICU version the snapshot must have been generated with
+   * @return the optional snapshot, empty when stale or invalid
+   */
+  static Optional<CldrDataSnapshot> read(final ByteBuffer buffer, final String expectedIcuVersion) {
+    try {
+      if (buffer.getInt() != MAGIC_NUMBER || buffer.getInt() != FORMAT_VERSION) {
+        return Optional.empty();
+      }
+      final int localeCount = buffer.getInt();
+      final int languageCodeCount = buffer.getInt();
+      if (!expectedIcuVersion.equals(readString(buffer))) {
+        return Optional.empty();
+      }
+      final List<ULocale> locales = new ArrayList<>(localeCount);
+      for (int i = 0; i < localeCount; i++) {
+        locales.add(new ULocale(readString(buffer)));
+      }
+      final List<String> languageCodes = new ArrayList<>(languageCodeCount);
+      for (int i = 0; i < languageCodeCount; i++) {
+        languageCodes.add(readString(buffer));
+      }
+      final int[] parentLocaleIds = readIntArray(buffer);
+      final int[] cldrLocaleIds = readIntArray(buffer);
+      final int[] referenceLocaleIds = readIntArray(buffer);
+      final int[] writtenLanguageLocaleIds = readIntArray(buffer);
+      final int[] spokenLanguageLocaleIds = readIntArray(buffer);
+      if (buffer.hasRemaining()
+          || parentLocaleIds.length != localeCount
+          || !areValidLocaleIds(parentLocaleIds, localeCount)
+          || !areValidLocaleIds(cldrLocaleIds, localeCount)
+          || !areValidLocaleIds(referenceLocaleIds, localeCount)
+          || !areValidLocaleIds(writtenLanguageLocaleIds, localeCount)
+          || !areValidLocaleIds(spokenLanguageLocaleIds, localeCount)) {
+        return Optional.empty();
+      }
+      return Optional.of(
+          new CldrDataSnapshot(
+              locales,
+              parentLocaleIds,
+              cldrLocaleIds,
+              referenceLocaleIds,
+              writtenLanguageLocaleIds,
+              spokenLanguageLocaleIds,
+              Set.copyOf(languageCodes)));
+    } catch (BufferUnderflowException | NegativeArraySizeException | IllegalArgumentException e) {
+      return Optional.empty();
+    }
+  }
+
+  /**
+   * Reads the snapshot from the {@link #RESOURCE_NAME} classpath resource, if present and generated
+   * with the current ICU version.
+   *
+   * @return the optional snapshot, empty when the resource is missing, unreadable, stale or invalid
+   */
+  static Optional<CldrDataSnapshot> readFromResource() {
+    try (InputStream inputStream = CldrDataSnapshot.class.getResourceAsStream(RESOURCE_NAME)) {
+      if (inputStream == null) {
+        return Optional.empty();
+      }
+      return read(ByteBuffer.wrap(inputStream.readAllBytes()), VersionInfo.ICU_VERSION.toString());
+    } catch (IOException e) {
+      return Optional.empty();
+    }
+  }
+
+  private static boolean areValidLocaleIds(final int[] localeIds, final int localeCount) {
+    return Arrays.stream(localeIds)
+        .allMatch(id -> id == LocaleIdsUtils.NO_LOCALE_ID || (id >= 0 && id < localeCount));
+  }
+
+  private static int[] readIntArray(final ByteBuffer buffer) {
+    final int[] intArray = new int[buffer.getInt()];
+    buffer.asIntBuffer().get(intArray);
+    buffer.position(buffer.position() + Integer.BYTES * intArray.length);
+    return intArray;
+  }
+
+  private static String readString(final ByteBuffer buffer) {
+    final byte[] encoded = new byte[buffer.getInt()];
+    buffer.get(encoded);
+    return new String(encoded, StandardCharsets.US_ASCII);
+  }
+
+  private static byte[] encode(final String value) {
+    return value.getBytes(StandardCharsets.US_ASCII);
+  }
+
+  private static byte[] getIcuVersion() {
+    return encode(VersionInfo.ICU_VERSION.toString());
+  }
+
+  /** Lazily initialized holder of the snapshot read from the classpath resource. */
+  private static final class SnapshotHolder {
+    private static final Optional<CldrDataSnapshot> SNAPSHOT = readFromResource();
+  }
+}
@@ -0,0 +1,70 @@
+/*-
+ * -\-\-
+ * locales-utils
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+package com.spotify.i18n.locales.utils.internal;
+
+import com.google.common.base.Preconditions;
+import com.ibm.icu.util.ULocale;
+import java.io.IOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardOpenOption;
+
+/**
+ * Build time entry point generating the {@link CldrDataSnapshot#RESOURCE_NAME} classpath resource.
+ *
+ * @author Eric Fjøsne
+ */
+final class CldrDataSnapshotGenerator {
+
+  private CldrDataSnapshotGenerator() {}
+
+  /**
+   * Generates the snapshot and writes it to the file at the given path.
+   *
+   * <p>Any previously generated file at the given path is deleted first, so that the snapshot is
+   * computed out of ICU rather than out of a previous snapshot.
+   *
+   * @param args path of the file to write
+   * @throws IOException if the snapshot could not be written
+   */
+  public static void main(final String[] args) throws IOException {
+    Preconditions.checkArgument(args.length == 1, "Expected a single output file path argument.");
+    final Path output = Paths.get(args[0]);
+    Files.deleteIfExists(output);
+    Files.createDirectories(output.toAbsolutePath().getParent());
+    final CldrDataSnapshot snapshot = CldrDataSnapshot.generate();
+    for (ULocale locale : snapshot.getLocales()) {
+      Preconditions.checkState(
+          locale.equals(new ULocale(locale.getName())),
+          "Locale cannot be serialized by name: %s",
+          locale);
+    }
+    try (FileChannel channel =
+        FileChannel.open(
+            output,
+            StandardOpenOption.CREATE,
+            StandardOpenOption.WRITE,
+            StandardOpenOption.TRUNCATE_EXISTING)) {
+      snapshot.writeTo(channel);
+    }
+  }
+}
@@ -0,0 +1,78 @@
+/*-
+ * -\-\-
+ * locales-utils
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+package com.spotify.i18n.locales.utils.languagetag;
+
+import com.google.common.base.Preconditions;
+import com.google.common.cache.Cache;
+import com.google.common.cache.CacheBuilder;
+import com.ibm.icu.util.ULocale;
+import java.util.Optional;
+
+/**
+ * A parser of language tags that memoizes the {@link ULocale} returned by {@link
+ * LanguageTagUtils#parse(String)} for each distinct raw language tag, in a bounded, concurrent
+ * cache. Repeated language tags are therefore neither sanitized nor parsed again.
+ *
+ * <p>Each instance owns its cache, which retains the given language tags as they are. It should
+ * only be used when the parsed language tags are known to repeat a lot, and when retaining them is
+ * acceptable.
+ *
+ * @see LanguageTagUtils
+ * @author Eric Fjøsne
+ */
+public final class CachingLanguageTagParser {
+
+  private final Cache<String, Optional<ULocale>> parsedLanguageTags;
+
+  private CachingLanguageTagParser(final long maximumSize) {
+    this.parsedLanguageTags = CacheBuilder.newBuilder().maximumSize(maximumSize).build();
+  }
+
+  /**
+   * Returns a new {@link CachingLanguageTagParser}, caching up to the given number of language
+   * tags.
+   *
+   * @param maximumSize the maximum number of cached language tags
+   * @return the caching parser
+   * @throws IllegalArgumentException if the given maximum size is not positive
+   */
+  public static CachingLanguageTagParser of(final long maximumSize) {
+    Preconditions.checkArgument(
+        maximumSize > 0, "The maximum size of the parse cache must be positive: %s", maximumSize);
+    return new CachingLanguageTagParser(maximumSize);
+  }
+
+  /**
+   * Returns the {@link Optional} {@link ULocale} resulting from parsing a given language tag, out
+   * of the cache when already parsed.
+   *
+   * <p>If provided value is empty, null or invalid, returns an empty {@link Optional}.
+   *
+   * @param languageTag
+   * @return Optional best matching {@link ULocale}
+   * @see LanguageTagUtils#parse(String)
+   */
+  public Optional<ULocale> parse(final String languageTag) {
+    if (languageTag == null) {
+      return Optional.empty();
+    }
+    return parsedLanguageTags.asMap().computeIfAbsent(languageTag, LanguageTagUtils::parse);
+  }
+}
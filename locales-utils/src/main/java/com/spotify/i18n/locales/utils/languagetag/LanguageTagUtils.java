@@ -21,6 +21,7 @@
 package com.spotify.i18n.locales.utils.languagetag;
 
 import com.ibm.icu.util.ULocale;
+import com.spotify.i18n.locales.utils.ascii.AsciiCharSequence;
 import com.spotify.i18n.locales.utils.hierarchy.LocalesHierarchyUtils;
 import java.util.Optional;
 
@@ -55,12 +56,43 @@ public class LanguageTagUtils {
     return parse(languageTag).map(ULocale::toLanguageTag).orElse(UNDEFINED_LOCALE.toLanguageTag());
   }
 
+  /**
+   * Returns the normalized BCP47 language tag value, for a given languageTag value held in a {@link
+   * CharSequence}.
+   *
+   * <p>If provided value is empty, null or invalid, returns "und" (language tag for Undefined)
+   *
+   * @param languageTag
+   * @return Normalized language tag
+   * @see #normalize(String)
+   */
+  public static String normalize(final CharSequence languageTag) {
+    return normalize(languageTag == null ? null : languageTag.toString());
+  }
+
+  /**
+   * Returns the normalized BCP47 language tag value, for a given languageTag value held in a range
+   * of a byte array of ASCII characters.
+   *
+   * <p>If provided value is empty or invalid, returns "und" (language tag for Undefined)
+   *
+   * @param bytes the byte array
+   * @param offset the index of the first byte of the language tag
+   * @param length the number of bytes of the language tag
+   * @return Normalized language tag
+   * @see #normalize(String)
+   */
+  public static String normalize(final byte[] bytes, final int offset, final int length) {
+    return normalize(AsciiCharSequence.of(bytes, offset, length));
+  }
+
   /**
    * Returns the {@link Optional} {@link ULocale} resulting from parsing a given language tag.
    *
    * <p>If provided value is empty, null or invalid, returns an empty {@link Optional}.
    *
    * @see ULocale
+   * @see CachingLanguageTagParser
    * @param languageTag
    * @return Optional best matching {@link ULocale}
    */
@@ -71,15 +103,78 @@ public class LanguageTagUtils {
         .filter(locale -> !LocalesHierarchyUtils.isSameLocale(UNDEFINED_LOCALE, locale));
   }
 
-  private static String sanitizeLanguageTag(final String languageTag) {
-    return languageTag
-        // A languageTag like en_SG@calendar=buddhist should be parseable, but the parse method
-        // fails if the character "@" is present ... so we replace it by the "-u-" character
-        // chain, which then parses nicely.
-        .replaceAll("@", "-u-")
-        // Replace all underscores with hyphens
-        .replaceAll("_", "-")
-        // Replace all equal signs with hyphens
-        .replaceAll("=", "-");
+  /**
+   * Returns the {@link Optional} {@link ULocale} resulting from parsing a given language tag held
+   * in a {@link CharSequence}.
+   *
+   * <p>Language tags are short, and they are materialized as a String, as ICU only parses Strings.
+   *
+   * <p>If provided value is empty, null or invalid, returns an empty {@link Optional}.
+   *
+   * @param languageTag
+   * @return Optional best matching {@link ULocale}
+   * @see #parse(String)
+   */
+  public static Optional<ULocale> parse(final CharSequence languageTag) {
+    return parse(languageTag == null ? null : languageTag.toString());
+  }
+
+  /**
+   * Returns the {@link Optional} {@link ULocale} resulting from parsing a given language tag held
+   * in a range of a byte array of ASCII characters.
+   *
+   * <p>If provided value is empty or invalid, returns an empty {@link Optional}.
+   *
+   * @param bytes the byte array
+   * @param offset the index of the first byte of the language tag
+   * @param length the number of bytes of the language tag
+   * @return Optional best matching {@link ULocale}
+   * @see #parse(String)
+   */
+  public static Optional<ULocale> parse(final byte[] bytes, final int offset, final int length) {
+    return parse(AsciiCharSequence.of(bytes, offset, length));
+  }
+
+  /**
+   * Returns the given language tag, with all characters which prevent it from being parsed
+   * replaced, in a single pass. Well-formed language tags are returned as is.
+   *
+   * @param languageTag
+   * @return Sanitized language tag
+   */
+  static String sanitizeLanguageTag(final String languageTag) {
+    final int length = languageTag.length();
+    int index = 0;
+    while (index < length && !isCharacterToSanitize(languageTag.charAt(index))) {
+      index++;
+    }
+    if (index == length) {
+      return languageTag;
+    }
+
+    final StringBuilder sanitized = new StringBuilder(length + 2).append(languageTag, 0, index);
+    for (; index < length; index++) {
+      final char c = languageTag.charAt(index);
+      switch (c) {
+        case '@':
+          // A languageTag like en_SG@calendar=buddhist should be parseable, but the parse method
+          // fails if the character "@" is present ... so we replace it by the "-u-" character
+          // chain, which then parses nicely.
+          sanitized.append("-u-");
+          break;
+        case '_':
+        case '=':
+          // Replace all underscores and equal signs with hyphens
+          sanitized.append('-');
+          break;
+        default:
+          sanitized.append(c);
+      }
+    }
+    return sanitized.toString();
+  }
+
+  private static boolean isCharacterToSanitize(final char c) {
+    return c == '@' || c == '_' || c == '=';
   }
 }
@@ -0,0 +1,177 @@
+/*-
+ * -\-\-
+ * locales-utils
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.i18n.locales.utils.acceptlanguage;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.List;
+import java.util.Locale.LanguageRange;
+import java.util.Random;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.MethodSource;
+
+class AcceptLanguageParserTest {
+
+  private static final String FUZZING_ALPHABET = "aeEnNqQsSuU019*-_@=;,. ";
+
+  private static final String[] FUZZING_TAGS = {
+    "en", "EN_us", "fr-BE", "he", "iw-IL", "no", "nb", "zh-Hant-HK", "sr_Latn", "*-CH", "ja@ca=jp"
+  };
+
+  private static final String[] FUZZING_WEIGHTS = {
+    "", ";q=1", ";q=0.9", ";q=0.50", ";q=0.5", " ; q = 0.1", ";q=-0.2", ";q=0", ";q=.3"
+  };
+
+  @ParameterizedTest
+  @MethodSource
+  void whenParsingCommonValues_parserHandlesThem(final String acceptLanguage) {
+    assertTrue(AcceptLanguageParser.parse(acceptLanguage).isPresent());
+  }
+
+  static Stream<String> whenParsingCommonValues_parserHandlesThem() {
+    return Stream.of(
+        "",
+        "en",
+        "en-US,en;q=0.9",
+        "fr-BE;q=0.1,    JA_jp, ZH_hk;q=0.5",
+        "fr_BE@calendar=gregorian",
+        "fr-BE ; q = -0.1",
+        "*-CH",
+        "zh-Hant-*");
+  }
+
+  @ParameterizedTest
+  @MethodSource
+  void whenParsingValue_returnsSameResultAsRegularExpressionsBasedParsing(
+      final String acceptLanguage) {
+    assertSameResult(acceptLanguage);
+  }
+
+  static Stream<String> whenParsingValue_returnsSameResultAsRegularExpressionsBasedParsing() {
+    return Stream.of(
+        "",
+        " ",
+        ",",
+        ",,en",
+        "en,,fr",
+        "en,",
+        "en,,,",
+        "-",
+        "-en",
+        "en-",
+        "en--us",
+        "*",
+        "*-*",
+        "e*",
+        "en-*-ch",
+        "123",
+        "en-123456789",
+        "abcdefghi",
+        "EN-us;Q=0.5",
+        "en;q=1",
+        "en;q=1.",
+        "en;q=.5",
+        "en;q=.",
+        "en;q=",
+        "en;q=1.5",
+        "en;q=0.5.5",
+        "en;q=0.12345678901234567890",
+        "en;q=0.1e1",
+        "en;q=0.5d",
+        "en;q=NaN",
+        "en;q=-0",
+        "en;Q=-0.5",
+        "en;q=-",
+        "en;q=-.5x",
+        "en;q=0.5;q=0.3",
+        "en;level=1",
+        "en-u-ca-buddhist",
+        "en-U-ca-buddhist",
+        "en-u",
+        "x-u@calendar",
+        "x-@calendar",
+        "en@calendar=buddhist;q=0.5,fr",
+        "en;q=0.5-u-foo,fr",
+        "-u-foo,en",
+        "en,-u-foo",
+        "en_u_ca",
+        "he-SE,iw-SE",
+        "iw,he;q=0.5",
+        "tlh-SE;q=0.333,i-klingon;q=0.2",
+        "no-NO,nb;q=0.9,nn;q=0.8",
+        "fr-BE;q=1.0,fr-BE;q=0.4",
+        "en;q=0.2,fr;q=0.9,de;q=0.2,it",
+        "Accept-Language: en",
+        "en\t;q=0.5",
+        "é",
+        "Ø",
+        "K");
+  }
+
+  @Test
+  void whenParsingRandomValues_returnsSameResultAsRegularExpressionsBasedParsing() {
+    final Random random = new Random(42L);
+    for (int i = 0; i < 20_000; i++) {
+      final StringBuilder sb = new StringBuilder();
+      final int length = random.nextInt(24);
+      for (int j = 0; j < length; j++) {
+        sb.append(FUZZING_ALPHABET.charAt(random.nextInt(FUZZING_ALPHABET.length())));
+      }
+      assertSameResult(sb.toString());
+    }
+  }
+
+  @Test
+  void whenParsingRandomWeightedValues_returnsSameResultAsRegularExpressionsBasedParsing() {
+    final Random random = new Random(42L);
+    for (int i = 0; i < 20_000; i++) {
+      final StringBuilder sb = new StringBuilder();
+      final int entries = 1 + random.nextInt(6);
+      for (int j = 0; j < entries; j++) {
+        if (j > 0) {
+          sb.append(random.nextBoolean() ? "," : ", ");
+        }
+        sb.append(FUZZING_TAGS[random.nextInt(FUZZING_TAGS.length)]);
+        sb.append(FUZZING_WEIGHTS[random.nextInt(FUZZING_WEIGHTS.length)]);
+      }
+      assertSameResult(sb.toString());
+    }
+  }
+
+  private static void assertSameResult(final String acceptLanguage) {
+    assertEquals(
+        describe(AcceptLanguageUtils.parseWithRegularExpressions(acceptLanguage)),
+        describe(AcceptLanguageUtils.parse(acceptLanguage)),
+        () -> "Different results for: " + acceptLanguage);
+  }
+
+  // LanguageRange comparison is based on the object hash code, which isn't reliable ... we need to
+  // compare a description of all entries instead.
+  private static List<String> describe(final List<LanguageRange> languageRanges) {
+    return languageRanges.stream()
+        .map(lr -> lr.getRange() + ";" + Double.doubleToLongBits(lr.getWeight()))
+        .collect(Collectors.toList());
+  }
+}
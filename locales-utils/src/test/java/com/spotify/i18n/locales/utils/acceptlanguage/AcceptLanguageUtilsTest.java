@@ -24,6 +24,7 @@ import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 
+import java.nio.charset.StandardCharsets;
 import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
@@ -49,6 +50,23 @@ public class AcceptLanguageUtilsTest {
     assertEquals(expectedNormalizedValue, AcceptLanguageUtils.normalize(givenValue));
   }
 
+  @ParameterizedTest
+  @MethodSource("whenNormalizingGivenValue_returnsExpectedOne")
+  public void whenNormalizingGivenValueAsCharSequenceOrBytes_returnsExpectedOne(
+      final String givenValue, final String expectedNormalizedValue) {
+    assertEquals(
+        expectedNormalizedValue, AcceptLanguageUtils.normalize(new StringBuilder(givenValue)));
+    if (StandardCharsets.ISO_8859_1.newEncoder().canEncode(givenValue)) {
+      // The value is surrounded by other bytes, to ensure only the given range is read
+      final byte[] bytes = ("pouet" + givenValue + "pouet").getBytes(StandardCharsets.ISO_8859_1);
+      assertEquals(
+          expectedNormalizedValue, AcceptLanguageUtils.normalize(bytes, 5, givenValue.length()));
+      assertEquals(
+          AcceptLanguageUtils.parse(givenValue).toString(),
+          AcceptLanguageUtils.parse(bytes, 5, givenValue.length()).toString());
+    }
+  }
+
   static Stream<Arguments> whenNormalizingGivenValue_returnsExpectedOne() {
     Map<String, String> m = new HashMap<>();
     m.put("", "");
@@ -0,0 +1,59 @@
+/*-
+ * -\-\-
+ * locales-utils
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+package com.spotify.i18n.locales.utils.ascii;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+
+class AsciiCharSequenceTest {
+
+  private static final byte[] BYTES = "xxfr-CA,en;q=0.5xx".getBytes(StandardCharsets.US_ASCII);
+
+  @Test
+  void whenReadingRange_onlyTheRangeIsVisible() {
+    final AsciiCharSequence sequence = AsciiCharSequence.of(BYTES, 2, 14);
+    assertEquals(14, sequence.length());
+    assertEquals('f', sequence.charAt(0));
+    assertEquals('5', sequence.charAt(13));
+    assertEquals("fr-CA,en;q=0.5", sequence.toString());
+    assertEquals("en", sequence.subSequence(6, 8).toString());
+    assertEquals("", AsciiCharSequence.of(BYTES, 3, 0).toString());
+  }
+
+  @Test
+  void whenReadingNonAsciiBytes_theyAreReadAsLatin1Characters() {
+    final AsciiCharSequence sequence = AsciiCharSequence.of(new byte[] {(byte) 0xE9}, 0, 1);
+    assertEquals('é', sequence.charAt(0));
+    assertEquals("é", sequence.toString());
+  }
+
+  @Test
+  void whenReadingOutOfRange_fails() {
+    assertThrows(NullPointerException.class, () -> AsciiCharSequence.of(null, 0, 0));
+    assertThrows(IndexOutOfBoundsException.class, () -> AsciiCharSequence.of(BYTES, 10, 20));
+    assertThrows(IndexOutOfBoundsException.class, () -> AsciiCharSequence.of(BYTES, -1, 2));
+    final AsciiCharSequence sequence = AsciiCharSequence.of(BYTES, 2, 14);
+    assertThrows(IndexOutOfBoundsException.class, () -> sequence.charAt(14));
+    assertThrows(IndexOutOfBoundsException.class, () -> sequence.subSequence(5, 15));
+  }
+}
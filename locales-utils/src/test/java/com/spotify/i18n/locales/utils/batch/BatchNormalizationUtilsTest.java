@@ -0,0 +1,122 @@
+/*-
+ * -\-\-
+ * locales-utils
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+package com.spotify.i18n.locales.utils.batch;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.google.common.collect.ImmutableList;
+import com.spotify.i18n.locales.utils.acceptlanguage.AcceptLanguageUtils;
+import com.spotify.i18n.locales.utils.languagetag.LanguageTagUtils;
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Arrays;
+import java.util.List;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+class BatchNormalizationUtilsTest {
+
+  private static final List<String> LANGUAGE_TAGS =
+      Arrays.asList("EN_us", "", "pouet pouet", "fr-ca", null, "EN_us", "zh_Hant_TW");
+
+  private static final List<String> ACCEPT_LANGUAGES =
+      Arrays.asList("fr-CA,fr;q=0.8", "", null, "en_US;q=0.5, es;q=0.7", "fr-CA,fr;q=0.8");
+
+  @Test
+  void whenNormalizingLanguageTags_resultsMatchOneByOneNormalization() {
+    final List<String> expected =
+        LANGUAGE_TAGS.stream().map(LanguageTagUtils::normalize).collect(Collectors.toList());
+
+    assertThat(
+        BatchNormalizationUtils.normalizeLanguageTags(LANGUAGE_TAGS.stream())
+            .collect(Collectors.toList()),
+        is(expected));
+    assertThat(
+        ImmutableList.copyOf(
+            BatchNormalizationUtils.normalizeLanguageTags(
+                LANGUAGE_TAGS.stream()
+                    .map(tag -> tag == null ? null : new StringBuilder(tag))
+                    .iterator())),
+        is(expected));
+  }
+
+  @Test
+  void whenNormalizingAcceptLanguages_resultsMatchOneByOneNormalization() {
+    final List<String> expected =
+        ACCEPT_LANGUAGES.stream().map(AcceptLanguageUtils::normalize).collect(Collectors.toList());
+
+    assertThat(
+        BatchNormalizationUtils.normalizeAcceptLanguages(ACCEPT_LANGUAGES.stream())
+            .collect(Collectors.toList()),
+        is(expected));
+    assertThat(
+        ImmutableList.copyOf(
+            BatchNormalizationUtils.normalizeAcceptLanguages(ACCEPT_LANGUAGES.iterator())),
+        is(expected));
+  }
+
+  @Test
+  void whenNormalizingLines_eachLineIsNormalized() throws IOException {
+    final StringWriter languageTagsWriter = new StringWriter();
+    assertThat(
+        BatchNormalizationUtils.normalizeLanguageTags(
+            new StringReader("EN_us\npouet pouet\r\nfr-ca\n"), languageTagsWriter),
+        is(3L));
+    assertThat(languageTagsWriter.toString(), is("en-US\nund\nfr-CA\n"));
+
+    final StringWriter acceptLanguagesWriter = new StringWriter();
+    assertThat(
+        BatchNormalizationUtils.normalizeAcceptLanguages(
+            new StringReader("fr-CA,fr;q=0.8\n\nen_US"), acceptLanguagesWriter),
+        is(3L));
+    assertThat(acceptLanguagesWriter.toString(), is("fr-ca,fr;q=0.8\n\nen-us\n"));
+  }
+
+  @Test
+  void whenRunningFromCommandLine_outputFileContainsNormalizedValues(@TempDir final Path tempDir)
+      throws IOException {
+    final Path input = Files.writeString(tempDir.resolve("input.txt"), "EN_us\nfr_CA\n");
+    final Path output = tempDir.resolve("output.txt");
+    BatchNormalizationUtils.main(
+        new String[] {"language-tags", input.toString(), output.toString()});
+    assertThat(Files.readAllLines(output, StandardCharsets.UTF_8), contains("en-US", "fr-CA"));
+  }
+
+  @Test
+  void whenRunningFromCommandLineWithInvalidArguments_fails(@TempDir final Path tempDir)
+      throws IOException {
+    final Path input = Files.writeString(tempDir.resolve("input.txt"), "EN_us\n");
+    final Path output = tempDir.resolve("output.txt");
+    assertThrows(IllegalArgumentException.class, () -> BatchNormalizationUtils.main(new String[0]));
+    assertThrows(
+        IllegalArgumentException.class,
+        () ->
+            BatchNormalizationUtils.main(
+                new String[] {"pouet", input.toString(), output.toString()}));
+  }
+}
@@ -59,6 +59,31 @@ class LocalesHierarchyUtilsTest {
             assertTrue(LANGUAGE_CODES_WITH_MULTIPLE_SCRIPTS_IN_CLDR.contains(languageCode)));
   }
 
+  @ParameterizedTest
+  @MethodSource("allAvailableLocales")
+  void precomputedHierarchyMatchesComputedHierarchy(final ULocale locale) {
+    assertEquals(
+        LocalesHierarchyUtils.computeParentLocale(locale),
+        LocalesHierarchyUtils.getParentLocale(locale));
+    assertEquals(
+        LocalesHierarchyUtils.computeAncestorLocales(locale),
+        LocalesHierarchyUtils.getAncestorLocales(locale));
+  }
+
+  @ParameterizedTest
+  @MethodSource("allAvailableLocales")
+  void descendantLocalesMatchAllDescendantCldrLocales(final ULocale locale) {
+    assertEquals(
+        AvailableLocalesUtils.getCldrLocales().stream()
+            .filter(l -> LocalesHierarchyUtils.isDescendantLocale(l, locale))
+            .collect(Collectors.toSet()),
+        LocalesHierarchyUtils.getDescendantLocales(locale));
+  }
+
+  static Stream<ULocale> allAvailableLocales() {
+    return Arrays.stream(ULocale.getAvailableLocales());
+  }
+
   @ParameterizedTest
   @MethodSource
   void getDescendantLocales(String languageTag, String allDescendantLanguageTags) {
@@ -0,0 +1,151 @@
+/*-
+ * -\-\-
+ * locales-utils
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.i18n.locales.utils.ids;
+
+import static com.spotify.i18n.locales.utils.ids.LocaleIdsUtils.NO_LOCALE_ID;
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.ibm.icu.util.ULocale;
+import com.spotify.i18n.locales.utils.available.AvailableLocalesUtils;
+import com.spotify.i18n.locales.utils.hierarchy.LocalesHierarchyUtils;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.NullAndEmptySource;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LocaleIdsUtilsTest {
+
+  @Test
+  void localeIdsAreDenseAndMapBackToTheirLocale() {
+    for (int id = 0; id < LocaleIdsUtils.getLocaleIdCount(); id++) {
+      final ULocale locale = LocaleIdsUtils.getLocale(id);
+      assertEquals(id, LocaleIdsUtils.getLocaleId(locale));
+      assertEquals(locale.toLanguageTag(), LocaleIdsUtils.getLanguageTag(id));
+    }
+  }
+
+  @Test
+  void localeIdsAreOrderedByLanguageTag() {
+    final List<String> languageTags =
+        IntStream.range(0, LocaleIdsUtils.getLocaleIdCount())
+            .mapToObj(LocaleIdsUtils::getLanguageTag)
+            .collect(Collectors.toList());
+
+    assertEquals(languageTags.stream().sorted().collect(Collectors.toList()), languageTags);
+  }
+
+  @Test
+  void allAvailableLocalesAndRootHaveALocaleId() {
+    for (Set<ULocale> locales :
+        List.of(
+            AvailableLocalesUtils.getCldrLocales(),
+            AvailableLocalesUtils.getReferenceLocales(),
+            AvailableLocalesUtils.getWrittenLanguageLocales(),
+            AvailableLocalesUtils.getSpokenLanguageLocales(),
+            Set.of(ULocale.ROOT))) {
+      for (ULocale locale : locales) {
+        assertNotEquals(NO_LOCALE_ID, LocaleIdsUtils.getLocaleId(locale), locale.toLanguageTag());
+      }
+    }
+  }
+
+  @Test
+  void membershipMatchesAvailableLocales() {
+    for (int id = 0; id < LocaleIdsUtils.getLocaleIdCount(); id++) {
+      final ULocale locale = LocaleIdsUtils.getLocale(id);
+      assertEquals(
+          AvailableLocalesUtils.getCldrLocales().contains(locale),
+          LocaleIdsUtils.isCldrLocaleId(id));
+      assertEquals(
+          AvailableLocalesUtils.getReferenceLocales().contains(locale),
+          LocaleIdsUtils.isReferenceLocaleId(id));
+      assertEquals(
+          AvailableLocalesUtils.getWrittenLanguageLocales().contains(locale),
+          LocaleIdsUtils.isWrittenLanguageLocaleId(id));
+      assertEquals(
+          AvailableLocalesUtils.getSpokenLanguageLocales().contains(locale),
+          LocaleIdsUtils.isSpokenLanguageLocaleId(id));
+    }
+    assertFalse(LocaleIdsUtils.isCldrLocaleId(NO_LOCALE_ID));
+    assertFalse(LocaleIdsUtils.isReferenceLocaleId(NO_LOCALE_ID));
+    assertFalse(LocaleIdsUtils.isWrittenLanguageLocaleId(NO_LOCALE_ID));
+    assertFalse(LocaleIdsUtils.isSpokenLanguageLocaleId(NO_LOCALE_ID));
+  }
+
+  @Test
+  void hierarchyMatchesLocalesHierarchyUtils() {
+    for (int id = 0; id < LocaleIdsUtils.getLocaleIdCount(); id++) {
+      final ULocale locale = LocaleIdsUtils.getLocale(id);
+      assertEquals(
+          LocalesHierarchyUtils.getParentLocale(locale)
+              .map(LocaleIdsUtils::getLocaleId)
+              .orElse(NO_LOCALE_ID),
+          LocaleIdsUtils.getParentLocaleId(id));
+      assertEquals(
+          LocalesHierarchyUtils.getAncestorLocales(locale),
+          Arrays.stream(LocaleIdsUtils.getAncestorLocaleIds(id))
+              .mapToObj(LocaleIdsUtils::getLocale)
+              .collect(Collectors.toList()));
+    }
+  }
+
+  @Test
+  void isDescendantLocaleIdMatchesLocalesHierarchyUtils() {
+    final int enId = LocaleIdsUtils.getLocaleId(ULocale.ENGLISH);
+    final int rootId = LocaleIdsUtils.getLocaleId(ULocale.ROOT);
+    for (int id = 0; id < LocaleIdsUtils.getLocaleIdCount(); id++) {
+      final ULocale locale = LocaleIdsUtils.getLocale(id);
+      assertEquals(
+          LocalesHierarchyUtils.isDescendantLocale(locale, ULocale.ENGLISH),
+          LocaleIdsUtils.isDescendantLocaleId(id, enId));
+      assertEquals(
+          LocalesHierarchyUtils.isDescendantLocale(locale, ULocale.ROOT),
+          LocaleIdsUtils.isDescendantLocaleId(id, rootId));
+    }
+  }
+
+  @Test
+  void whenGettingLocaleIdForLanguageTag_returnsIdOfParsedLocale() {
+    assertEquals(
+        LocaleIdsUtils.getLocaleId(ULocale.forLanguageTag("en-GB")),
+        LocaleIdsUtils.getLocaleId("en_gb"));
+  }
+
+  @ParameterizedTest
+  @NullAndEmptySource
+  @ValueSource(strings = {"invalid language tag", "en-US-POSIX", "fr-JP"})
+  void whenGettingLocaleIdForUnknownLanguageTag_returnsNoLocaleId(final String languageTag) {
+    assertEquals(NO_LOCALE_ID, LocaleIdsUtils.getLocaleId(languageTag));
+  }
+
+  @Test
+  void whenUsingOutOfRangeLocaleId_throws() {
+    assertThrows(IndexOutOfBoundsException.class, () -> LocaleIdsUtils.getLocale(NO_LOCALE_ID));
+    assertThrows(
+        IndexOutOfBoundsException.class,
+        () -> LocaleIdsUtils.getParentLocaleId(LocaleIdsUtils.getLocaleIdCount()));
+  }
+}
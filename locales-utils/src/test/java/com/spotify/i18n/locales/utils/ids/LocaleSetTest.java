@@ -0,0 +1,137 @@
+/*-
+ * -\-\-
+ * locales-utils
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+
+package com.spotify.i18n.locales.utils.ids;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+import com.ibm.icu.util.ULocale;
+import com.spotify.i18n.locales.utils.available.AvailableLocalesUtils;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+import org.junit.jupiter.api.Test;
+
+class LocaleSetTest {
+
+  private static final ULocale EN = ULocale.forLanguageTag("en");
+  private static final ULocale EN_GB = ULocale.forLanguageTag("en-GB");
+  private static final ULocale FR = ULocale.forLanguageTag("fr");
+  private static final ULocale JA = ULocale.forLanguageTag("ja");
+
+  @Test
+  void whenCopyingLocaleSet_returnsSameInstance() {
+    final LocaleSet set = LocaleSet.of(EN, FR);
+    assertSame(set, LocaleSet.copyOf(set));
+  }
+
+  @Test
+  void whenCopyingLocaleOutsideOfIdentifierSpace_throws() {
+    final IllegalArgumentException thrown =
+        assertThrows(
+            IllegalArgumentException.class,
+            () -> LocaleSet.of(EN, ULocale.forLanguageTag("fr-JP")));
+
+    assertEquals(
+        "Given locale is outside of the locale identifier space: fr_JP", thrown.getMessage());
+  }
+
+  @Test
+  void whenCreatingFromLocaleIds_containsIdentifiedLocales() {
+    final LocaleSet set =
+        LocaleSet.ofLocaleIds(LocaleIdsUtils.getLocaleId(EN), LocaleIdsUtils.getLocaleId(FR));
+
+    assertEquals(LocaleSet.of(EN, FR), set);
+    assertThrows(IndexOutOfBoundsException.class, () -> LocaleSet.ofLocaleIds(-1));
+  }
+
+  @Test
+  void membershipMatchesContainedLocales() {
+    final LocaleSet set = LocaleSet.of(EN, FR);
+
+    assertTrue(set.contains(EN));
+    assertTrue(set.contains(FR));
+    assertFalse(set.contains(EN_GB));
+    assertFalse(set.contains(ULocale.forLanguageTag("fr-JP")));
+    assertFalse(set.contains("en"));
+    assertFalse(set.contains(null));
+    assertTrue(set.containsLocaleId(LocaleIdsUtils.getLocaleId(EN)));
+    assertFalse(set.containsLocaleId(LocaleIdsUtils.NO_LOCALE_ID));
+    assertFalse(set.containsLocaleId(LocaleIdsUtils.getLocaleIdCount()));
+  }
+
+  @Test
+  void iterationFollowsLanguageTagOrder() {
+    final LocaleSet set = LocaleSet.of(JA, FR, EN_GB, EN);
+
+    assertEquals(List.of(EN, EN_GB, FR, JA), List.copyOf(set));
+    assertEquals(4, set.size());
+  }
+
+  @Test
+  void setOperationsMatchJavaSetOperations() {
+    final LocaleSet set1 = LocaleSet.of(EN, EN_GB, FR);
+    final LocaleSet set2 = LocaleSet.of(FR, JA);
+
+    assertEquals(Set.of(EN, EN_GB, FR, JA), set1.union(set2));
+    assertEquals(Set.of(FR), set1.intersection(set2));
+    assertEquals(Set.of(EN, EN_GB), set1.difference(set2));
+    assertSame(LocaleSet.of(), set1.intersection(LocaleSet.of(JA)));
+    assertTrue(set1.containsAll(LocaleSet.of(EN, FR)));
+    assertFalse(set1.containsAll(set2));
+    assertTrue(set1.containsAll(Set.of(EN, FR)));
+  }
+
+  @Test
+  void equalsAndHashCodeAreConsistentWithOtherSets() {
+    final Set<ULocale> hashSet = new HashSet<>(List.of(EN, FR));
+    final LocaleSet set = LocaleSet.copyOf(hashSet);
+
+    assertEquals(hashSet, set);
+    assertEquals(set, hashSet);
+    assertEquals(hashSet.hashCode(), set.hashCode());
+    assertEquals(Set.of().hashCode(), LocaleSet.of().hashCode());
+  }
+
+  @Test
+  void setIsImmutable() {
+    final LocaleSet set = LocaleSet.of(EN, FR);
+
+    assertThrows(UnsupportedOperationException.class, () -> set.add(JA));
+    assertThrows(UnsupportedOperationException.class, () -> set.remove(EN));
+    assertThrows(UnsupportedOperationException.class, set::clear);
+  }
+
+  @Test
+  void availableLocalesAreLocaleSets() {
+    for (Set<ULocale> locales :
+        List.of(
+            AvailableLocalesUtils.getCldrLocales(),
+            AvailableLocalesUtils.getReferenceLocales(),
+            AvailableLocalesUtils.getWrittenLanguageLocales(),
+            AvailableLocalesUtils.getSpokenLanguageLocales())) {
+      assertTrue(locales instanceof LocaleSet);
+      assertEquals(
+          locales.stream().map(ULocale::toLanguageTag).collect(Collectors.toSet()).size(),
+          locales.size());
+    }
+  }
+}
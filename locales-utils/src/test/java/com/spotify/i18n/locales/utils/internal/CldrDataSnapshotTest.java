@@ -0,0 +1,121 @@
+/*-
+ * -\-\-
+ * locales-utils
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+package com.spotify.i18n.locales.utils.internal;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import com.ibm.icu.util.ULocale;
+import com.ibm.icu.util.VersionInfo;
+import com.spotify.i18n.locales.utils.available.AvailableLocalesUtils;
+import com.spotify.i18n.locales.utils.hierarchy.LocalesHierarchyUtils;
+import com.spotify.i18n.locales.utils.ids.LocaleIdsUtils;
+import com.spotify.i18n.locales.utils.ids.LocaleSet;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+import org.junit.jupiter.api.Test;
+
+class CldrDataSnapshotTest {
+
+  private static final String ICU_VERSION = VersionInfo.ICU_VERSION.toString();
+
+  @Test
+  void classpathResourceMatchesUtilities() {
+    final CldrDataSnapshot snapshot = CldrDataSnapshot.readFromResource().orElseThrow();
+    assertTrue(CldrDataSnapshot.get().isPresent());
+
+    assertEquals(LocaleIdsUtils.getLocaleIdCount(), snapshot.getLocales().size());
+    for (int id = 0; id < LocaleIdsUtils.getLocaleIdCount(); id++) {
+      final ULocale locale = snapshot.getLocales().get(id);
+      assertEquals(LocaleIdsUtils.getLocale(id), locale);
+      assertEquals(
+          LocalesHierarchyUtils.getParentLocale(locale),
+          IntStream.of(snapshot.getParentLocaleIds()[id])
+              .filter(parentId -> parentId != LocaleIdsUtils.NO_LOCALE_ID)
+              .mapToObj(LocaleIdsUtils::getLocale)
+              .findFirst());
+    }
+
+    assertThat(
+        LocaleSet.ofLocaleIds(snapshot.getCldrLocaleIds()),
+        is(AvailableLocalesUtils.getCldrLocales()));
+    assertThat(
+        LocaleSet.ofLocaleIds(snapshot.getReferenceLocaleIds()),
+        is(AvailableLocalesUtils.getReferenceLocales()));
+    assertThat(
+        LocaleSet.ofLocaleIds(snapshot.getWrittenLanguageLocaleIds()),
+        is(AvailableLocalesUtils.getWrittenLanguageLocales()));
+    assertThat(
+        LocaleSet.ofLocaleIds(snapshot.getSpokenLanguageLocaleIds()),
+        is(AvailableLocalesUtils.getSpokenLanguageLocales()));
+    assertThat(
+        snapshot.getLanguageCodesWithMultipleScripts(),
+        is(
+            AvailableLocalesUtils.getCldrLocales().stream()
+                .filter(locale -> !locale.getScript().isEmpty())
+                .map(ULocale::getLanguage)
+                .collect(Collectors.toSet())));
+  }
+
+  @Test
+  void whenWritingAndReading_allDataIsRetained() throws IOException {
+    final CldrDataSnapshot generated = CldrDataSnapshot.generate();
+    final CldrDataSnapshot read =
+        CldrDataSnapshot.read(serialize(generated), ICU_VERSION).orElseThrow();
+
+    assertEquals(generated.getLocales(), read.getLocales());
+    assertArrayEquals(generated.getParentLocaleIds(), read.getParentLocaleIds());
+    assertArrayEquals(generated.getCldrLocaleIds(), read.getCldrLocaleIds());
+    assertArrayEquals(generated.getReferenceLocaleIds(), read.getReferenceLocaleIds());
+    assertArrayEquals(generated.getWrittenLanguageLocaleIds(), read.getWrittenLanguageLocaleIds());
+    assertArrayEquals(generated.getSpokenLanguageLocaleIds(), read.getSpokenLanguageLocaleIds());
+    assertEquals(
+        generated.getLanguageCodesWithMultipleScripts(),
+        read.getLanguageCodesWithMultipleScripts());
+  }
+
+  @Test
+  void whenReadingForOtherIcuVersion_returnsEmpty() throws IOException {
+    assertTrue(CldrDataSnapshot.read(serialize(CldrDataSnapshot.generate()), "1.2.3.4").isEmpty());
+  }
+
+  @Test
+  void whenReadingInvalidContent_returnsEmpty() throws IOException {
+    final ByteBuffer serialized = serialize(CldrDataSnapshot.generate());
+    assertTrue(CldrDataSnapshot.read(ByteBuffer.wrap(new byte[] {1, 2, 3}), ICU_VERSION).isEmpty());
+    assertTrue(
+        CldrDataSnapshot.read(
+                ByteBuffer.wrap(serialized.array(), 0, serialized.limit() - 1).slice(), ICU_VERSION)
+            .isEmpty());
+  }
+
+  private static ByteBuffer serialize(final CldrDataSnapshot snapshot) throws IOException {
+    final ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+    snapshot.writeTo(Channels.newChannel(outputStream));
+    return ByteBuffer.wrap(outputStream.toByteArray());
+  }
+}
@@ -0,0 +1,59 @@
+/*-
+ * -\-\-
+ * locales-utils
+ * --
+ * Copyright (C) 2016 - 2025 Spotify AB
+ * --
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ * -/-/-
+ */
+package com.spotify.i18n.locales.utils.languagetag;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import com.ibm.icu.util.ULocale;
+import java.util.Optional;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+public class CachingLanguageTagParserTest {
+
+  @Test
+  public void whenBuildingWithInvalidMaximumSize_fails() {
+    assertThrows(IllegalArgumentException.class, () -> CachingLanguageTagParser.of(0));
+  }
+
+  @ParameterizedTest
+  @ValueSource(strings = {"", "pt_BR@calendar=gregorian", "en-US", "und", "not a language tag"})
+  public void whenParsing_returnsSameValuesAsLanguageTagUtils(final String languageTag) {
+    assertThat(
+        CachingLanguageTagParser.of(10).parse(languageTag),
+        is(LanguageTagUtils.parse(languageTag)));
+  }
+
+  @Test
+  public void whenParsingNullValue_returnsEmpty() {
+    assertThat(CachingLanguageTagParser.of(10).parse(null), is(Optional.empty()));
+  }
+
+  @Test
+  public void whenParsingTheSameLanguageTagTwice_returnsTheCachedLocale() {
+    final CachingLanguageTagParser parser = CachingLanguageTagParser.of(10);
+    final Optional<ULocale> first = parser.parse("pt_BR@calendar=gregorian");
+    assertThat(parser.parse("pt_BR@calendar=gregorian"), sameInstance(first));
+  }
+}
@@ -22,8 +22,11 @@ package com.spotify.i18n.locales.utils.languagetag;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 
 import com.ibm.icu.util.ULocale;
+import java.nio.charset.StandardCharsets;
 import java.util.HashMap;
 import java.util.Map;
 import java.util.Optional;
@@ -49,6 +52,37 @@ public class LanguageTagUtilsTest {
     assertThat(LanguageTagUtils.normalize("pouet pouet"), is("und"));
   }
 
+  @Test
+  public void testSanitizeLanguageTag() {
+    final String wellFormed = "en-SG-u-ca-buddhist";
+    assertThat(LanguageTagUtils.sanitizeLanguageTag(wellFormed), sameInstance(wellFormed));
+    assertThat(LanguageTagUtils.sanitizeLanguageTag(""), is(""));
+    assertThat(LanguageTagUtils.sanitizeLanguageTag("en_SG"), is("en-SG"));
+    assertThat(
+        LanguageTagUtils.sanitizeLanguageTag("en_SG@calendar=buddhist"),
+        is("en-SG-u-calendar-buddhist"));
+    assertThat(LanguageTagUtils.sanitizeLanguageTag("@_="), is("-u---"));
+  }
+
+  @Test
+  public void whenParsingTheSameLanguageTagTwice_returnsEqualLocales() {
+    final Optional<ULocale> first = LanguageTagUtils.parse("pt_BR@calendar=gregorian");
+    assertThat(LanguageTagUtils.parse("pt_BR@calendar=gregorian"), is(first));
+    assertThat(LanguageTagUtils.parse("pt_BR@calendar=gregorian"), not(sameInstance(first)));
+  }
+
+  @Test
+  public void testParseAndNormalizeCharSequenceOrBytes() {
+    final byte[] bytes = "xxEN_usxx".getBytes(StandardCharsets.US_ASCII);
+    assertThat(LanguageTagUtils.parse(bytes, 2, 5), is(Optional.of(ULocale.US)));
+    assertThat(LanguageTagUtils.normalize(bytes, 2, 5), is("en-US"));
+    assertThat(
+        LanguageTagUtils.parse(new StringBuilder("fr_CA")), is(Optional.of(ULocale.CANADA_FRENCH)));
+    assertThat(LanguageTagUtils.normalize(new StringBuilder("fr_CA")), is("fr-CA"));
+    assertThat(LanguageTagUtils.parse((CharSequence) null), is(Optional.empty()));
+    assertThat(LanguageTagUtils.normalize((CharSequence) null), is("und"));
+  }
+
   @ParameterizedTest
   @MethodSource
   public void testParse(